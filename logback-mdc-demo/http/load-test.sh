@@ -0,0 +1,64 @@
+#!/usr/bin/env bash
+# =====================================================
+# 비동기 엔드포인트 부하 테스트
+# =====================================================
+# 동시 요청 수(CONCURRENCY)를 바꿔가며 처리량을 비교
+# - email        : EmailDispatcher가 스레드를 점유하지 않으므로 풀 크기와 무관하게
+#                  max-concurrent-sends x max-recipients-per-send / fake-latency 까지 증가
+#                  (/actuator/metrics/email.sends 로 묶음 발송 횟수 확인)
+# - notification : 알림 저장은 Write-Behind 버퍼로 묶여 저장됨
+#                  (/actuator/metrics/notification.flushes 로 저장소 쓰기 횟수 확인)
+#                  푸시는 사용자(userId 50명)별로 합쳐 발송됨
+#                  (/actuator/metrics/push.coalescing.ratio 로 합쳐진 비율 확인)
+# - 가상 스레드(app.async.virtual-threads=true)와 플랫폼 스레드 풀 비교도 가능
+#
+# [사용 방법]
+#   ./gradlew bootRun                                              # 플랫폼 스레드
+#   ./gradlew bootRun --args='--app.async.virtual-threads=true'    # 가상 스레드
+#   CONCURRENCY=200 REQUESTS=2000 ./http/load-test.sh
+#
+# [대상 엔드포인트] (TARGET으로 변경 가능)
+#   email        : GET  /api/email/{email}/with-mdc
+#   notification : POST /api/notification
+# =====================================================
+set -euo pipefail
+
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+CONCURRENCY="${CONCURRENCY:-100}"
+REQUESTS="${REQUESTS:-1000}"
+TARGET="${TARGET:-email}"
+
+request() {
+    local i="$1"
+    case "$TARGET" in
+        email)
+            curl -s -o /dev/null -w '%{http_code}\n' \
+                "$BASE_URL/api/email/load$i@example.com/with-mdc"
+            ;;
+        notification)
+            curl -s -o /dev/null -w '%{http_code}\n' -X POST \
+                "$BASE_URL/api/notification?userId=user$((i % 50))&message=load$i"
+            ;;
+        *)
+            echo "unknown TARGET: $TARGET" >&2
+            exit 1
+            ;;
+    esac
+}
+export -f request
+export BASE_URL TARGET
+
+echo "target=$TARGET concurrency=$CONCURRENCY requests=$REQUESTS"
+
+start=$(date +%s%N)
+results=$(seq 1 "$REQUESTS" | xargs -P "$CONCURRENCY" -I{} bash -c 'request {}')
+end=$(date +%s%N)
+
+elapsed_ms=$(( (end - start) / 1000000 ))
+ok=$(grep -c '^200$' <<< "$results" || true)
+
+echo "elapsed: ${elapsed_ms} ms"
+echo "success: ${ok}/${REQUESTS}"
+echo "throughput: $(( REQUESTS * 1000 / (elapsed_ms > 0 ? elapsed_ms : 1) )) req/s"
+echo "status codes:"
+sort <<< "$results" | uniq -c
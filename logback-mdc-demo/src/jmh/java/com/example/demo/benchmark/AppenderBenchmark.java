@@ -0,0 +1,113 @@
+package com.example.demo.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import com.example.demo.logging.BatchingAsyncAppender;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.Iterator;
+
+import static org.openjdk.jmh.annotations.Level.Iteration;
+
+/**
+ * logback-spring.xml의 각 Appender에 대한 호출 스레드 측 log.info() 비용 측정
+ *
+ * [측정 항목]
+ * - CONSOLE / CONSOLE_WITH_MDC / CONSOLE_JSON / FILE : 동기 Appender (인코딩 + 쓰기)
+ * - ASYNC_CONSOLE_JSON / ASYNC_FILE : BatchingAsyncAppender (호출 스레드는 큐 적재까지만)
+ * - MMAP_FILE : MappedFileAppender (인코딩 + 메모리 맵 버퍼 memcpy)
+ *
+ * [참고]
+ * - MMAP_FILE 외의 Appender는 null 스트림에 기록하므로 실제 I/O 비용은 포함되지 않음
+ * - 비동기 Appender는 큐가 가득 차면 이벤트를 버리므로, 반복마다 적재/버려진 건수를
+ *   보조 지표 info:enqueued, info:dropped로 함께 기록 (QueueCounters 참고)
+ *   -> dropped가 0이 아니면 소비자가 따라가지 못한 것이므로 ns/op가 실제보다 낮게 나옴
+ */
+@State(Scope.Thread)
+public class AppenderBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger("com.example.demo.service.OrderService");
+
+    @Param({"CONSOLE", "CONSOLE_WITH_MDC", "CONSOLE_JSON", "FILE", "ASYNC_CONSOLE_JSON", "ASYNC_FILE", "MMAP_FILE"})
+    public String appender;
+
+    private Appender<ILoggingEvent> target;
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.reset();
+        target = BenchmarkLogging.appender(appender);
+        BenchmarkLogging.installRoot(target, Level.INFO);
+
+        MDC.put("requestId", "01JABCDEFGHJKMNPQR");
+        MDC.put("userId", "user-123");
+    }
+
+    @TearDown
+    public void tearDown() {
+        MDC.clear();
+        BenchmarkLogging.reset();
+    }
+
+    @Benchmark
+    public void info(QueueCounters counters) {
+        log.info("[OrderService] 주문 처리 시작 - orderId: {}", "ORDER-001");
+    }
+
+    /**
+     * 반복(iteration)마다 BatchingAsyncAppender에 적재/버려진 이벤트 수 (JMH 보조 지표, 단위 #)
+     * - Appender의 누적 카운터를 반복 시작/끝에 읽어 차이만 기록 (측정 구간에는 읽지 않음)
+     * - 동기 Appender는 항상 0
+     * - Thread 범위 State는 주입 위치마다 별도 인스턴스가 만들어지므로
+     *   AppenderBenchmark를 주입받지 않고 root 로거에 연결된 Appender를 찾아 사용
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class QueueCounters {
+
+        public long enqueued;
+        public long dropped;
+
+        private long enqueuedAtStart;
+        private long droppedAtStart;
+
+        @Setup(Iteration)
+        public void start() {
+            BatchingAsyncAppender async = rootAsyncAppender();
+            if (async != null) {
+                enqueuedAtStart = async.getEnqueuedCount();
+                droppedAtStart = async.getDroppedCount();
+            }
+        }
+
+        @TearDown(Iteration)
+        public void record() {
+            BatchingAsyncAppender async = rootAsyncAppender();
+            if (async != null) {
+                enqueued = async.getEnqueuedCount() - enqueuedAtStart;
+                dropped = async.getDroppedCount() - droppedAtStart;
+            }
+        }
+
+        private static BatchingAsyncAppender rootAsyncAppender() {
+            Iterator<Appender<ILoggingEvent>> appenders = BenchmarkLogging.context()
+                    .getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+            while (appenders.hasNext()) {
+                if (appenders.next() instanceof BatchingAsyncAppender async) {
+                    return async;
+                }
+            }
+            return null;
+        }
+    }
+}
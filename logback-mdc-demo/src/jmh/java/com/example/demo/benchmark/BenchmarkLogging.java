@@ -0,0 +1,184 @@
+package com.example.demo.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.PatternLayout;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.encoder.LayoutWrappingEncoder;
+import com.example.demo.logging.BatchingAsyncAppender;
+import com.example.demo.logging.BinaryEncoder;
+import com.example.demo.logging.JsonEncoder;
+import com.example.demo.logging.MappedFileAppender;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+
+/**
+ * 벤치마크용 Logback 설정 헬퍼
+ *
+ * [핵심 포인트]
+ * - logback-spring.xml은 Spring Boot가 있어야 읽히므로 벤치마크에서는 프로그래밍 방식으로 구성
+ * - 각 Appender의 패턴/Encoder는 logback-spring.xml과 동일하게 유지
+ * - 출력 대상은 OutputStream.nullOutputStream() -> 디스크/콘솔 I/O를 빼고 로깅 경로 비용만 측정
+ *   (MMAP_FILE만 예외: 임시 디렉터리의 메모리 맵 세그먼트에 기록)
+ */
+final class BenchmarkLogging {
+
+    static final String CONSOLE_PATTERN =
+            "%d{HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n";
+
+    static final String CONSOLE_WITH_MDC_PATTERN =
+            "%d{HH:mm:ss.SSS} [%thread] [RequestId: %X{requestId}] [UserId: %X{userId}] %-5level %logger{36} - %msg%n";
+
+    static final String FILE_PATTERN =
+            "%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] [RequestId: %X{requestId}] [UserId: %X{userId}] %-5level %logger{36} - %msg%n";
+
+    /** JsonEncoder 도입 전 CONSOLE_JSON이 사용하던 PatternLayout 기반 JSON 흉내 패턴 (비교용, escape 없음) */
+    static final String LEGACY_JSON_PATTERN =
+            "{\"timestamp\":\"%d{yyyy-MM-dd HH:mm:ss.SSS}\",\"level\":\"%level\",\"requestId\":\"%X{requestId}\","
+                    + "\"userId\":\"%X{userId}\",\"logger\":\"%logger\",\"message\":\"%msg\"}%n";
+
+    private BenchmarkLogging() {
+    }
+
+    static LoggerContext context() {
+        return (LoggerContext) LoggerFactory.getILoggerFactory();
+    }
+
+    /**
+     * 기존 설정을 모두 제거하고 root 로거에 지정한 Appender 하나만 연결
+     */
+    static void installRoot(Appender<ILoggingEvent> appender, Level level) {
+        LoggerContext context = context();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.setLevel(level);
+        if (appender != null) {
+            root.addAppender(appender);
+        }
+    }
+
+    static void reset() {
+        context().reset();
+    }
+
+    /**
+     * logback-spring.xml의 Appender 이름으로 동일 구성의 Appender 생성
+     * - 파일/콘솔 대신 null 스트림에 기록
+     */
+    static Appender<ILoggingEvent> appender(String name) {
+        return switch (name) {
+            case "CONSOLE" -> streamAppender(name, pattern(CONSOLE_PATTERN), true);
+            case "CONSOLE_WITH_MDC" -> streamAppender(name, pattern(CONSOLE_WITH_MDC_PATTERN), true);
+            case "CONSOLE_JSON" -> streamAppender(name, json(), false);
+            case "FILE" -> streamAppender(name, pattern(FILE_PATTERN), false);
+            case "ASYNC_CONSOLE_JSON" -> async(name, streamAppender("CONSOLE_JSON", json(), false));
+            case "ASYNC_FILE" -> async(name, streamAppender("FILE", pattern(FILE_PATTERN), false));
+            case "MMAP_FILE" -> mapped(name, pattern(FILE_PATTERN));
+            default -> throw new IllegalArgumentException("Unknown appender: " + name);
+        };
+    }
+
+    /**
+     * Encoder 이름으로 Encoder 생성 (legacyJson은 JsonEncoder 도입 전 PatternLayout 기반 CONSOLE_JSON 구성)
+     */
+    static Encoder<ILoggingEvent> encoder(String name) {
+        return switch (name) {
+            case "pattern" -> pattern(CONSOLE_WITH_MDC_PATTERN);
+            case "legacyJson" -> legacyJson();
+            case "json" -> json();
+            case "binary" -> binary();
+            default -> throw new IllegalArgumentException("Unknown encoder: " + name);
+        };
+    }
+
+    static Encoder<ILoggingEvent> pattern(String pattern) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context());
+        encoder.setPattern(pattern);
+        encoder.start();
+        return encoder;
+    }
+
+    static Encoder<ILoggingEvent> json() {
+        JsonEncoder encoder = new JsonEncoder();
+        encoder.setContext(context());
+        encoder.start();
+        return encoder;
+    }
+
+    static Encoder<ILoggingEvent> binary() {
+        BinaryEncoder encoder = new BinaryEncoder();
+        encoder.setContext(context());
+        encoder.start();
+        // 파일 시작과 같은 상태로 사전 초기화
+        encoder.headerBytes();
+        return encoder;
+    }
+
+    static Encoder<ILoggingEvent> legacyJson() {
+        PatternLayout layout = new PatternLayout();
+        layout.setContext(context());
+        layout.setPattern(LEGACY_JSON_PATTERN);
+        layout.start();
+
+        LayoutWrappingEncoder<ILoggingEvent> encoder = new LayoutWrappingEncoder<>();
+        encoder.setContext(context());
+        encoder.setLayout(layout);
+        encoder.start();
+        return encoder;
+    }
+
+    private static OutputStreamAppender<ILoggingEvent> streamAppender(String name,
+                                                                      Encoder<ILoggingEvent> encoder,
+                                                                      boolean immediateFlush) {
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context());
+        appender.setName(name);
+        appender.setEncoder(encoder);
+        appender.setImmediateFlush(immediateFlush);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        return appender;
+    }
+
+    /**
+     * MMAP_FILE은 실제 메모리 맵 기록 비용을 재야 하므로 임시 디렉터리에 기록
+     */
+    private static MappedFileAppender mapped(String name, Encoder<ILoggingEvent> encoder) {
+        MappedFileAppender appender = new MappedFileAppender();
+        appender.setContext(context());
+        appender.setName(name);
+        appender.setEncoder(encoder);
+        try {
+            appender.setDirectory(Files.createTempDirectory("jmh-mmap").toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        appender.start();
+        return appender;
+    }
+
+    private static BatchingAsyncAppender async(String name, Appender<ILoggingEvent> delegate) {
+        // logback-spring.xml의 ASYNC_* 설정과 동일
+        BatchingAsyncAppender appender = new BatchingAsyncAppender();
+        appender.setContext(context());
+        appender.setName(name);
+        appender.setQueueSize(8192);
+        appender.setMaxBatchSize(256);
+        appender.setDiscardLevel(Level.WARN);
+        appender.setNeverBlock(true);
+        appender.setDeferFormatting(true);
+        appender.addAppender(delegate);
+        appender.start();
+        return appender;
+    }
+}
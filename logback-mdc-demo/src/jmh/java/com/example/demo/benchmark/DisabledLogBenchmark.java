@@ -0,0 +1,68 @@
+package com.example.demo.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.example.demo.service.OrderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 비활성 레벨 로그(log.debug) 호출 비용 측정
+ *
+ * [측정 항목]
+ * - OrderService의 validateOrder/calculatePrice/saveOrder와 같은 형태의 log.debug 호출
+ * - 로거 레벨은 INFO (운영 기본값) -> 모든 debug 호출은 비활성
+ *
+ * [비교]
+ * - parameterized : log.debug("... {}", arg) -> 레벨 검사 후 즉시 반환, 할당 0이어야 함
+ * - guarded       : if (log.isDebugEnabled()) 가드
+ * - concatenated  : 문자열 연결 -> 레벨과 무관하게 문자열 생성 비용 발생 (안티 패턴 기준선)
+ */
+@State(Scope.Thread)
+public class DisabledLogBenchmark {
+
+    // OrderService의 @Slf4j 로거와 같은 이름
+    private static final Logger log = LoggerFactory.getLogger(OrderService.class);
+
+    private String orderId;
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.reset();
+        BenchmarkLogging.installRoot(BenchmarkLogging.appender("CONSOLE"), Level.INFO);
+        // 매 호출 상수 폴딩을 막기 위해 필드로 보관
+        orderId = "ORDER-" + System.nanoTime();
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkLogging.reset();
+    }
+
+    @Benchmark
+    public void parameterized() {
+        log.debug("[OrderService] 주문 유효성 검사 - orderId: {}", orderId);
+        log.debug("[OrderService] 가격 계산 - orderId: {}", orderId);
+        log.debug("[OrderService] 주문 저장 - orderId: {}", orderId);
+    }
+
+    @Benchmark
+    public void guarded() {
+        if (log.isDebugEnabled()) {
+            log.debug("[OrderService] 주문 유효성 검사 - orderId: {}", orderId);
+            log.debug("[OrderService] 가격 계산 - orderId: {}", orderId);
+            log.debug("[OrderService] 주문 저장 - orderId: {}", orderId);
+        }
+    }
+
+    @Benchmark
+    public void concatenated() {
+        log.debug("[OrderService] 주문 유효성 검사 - orderId: " + orderId);
+        log.debug("[OrderService] 가격 계산 - orderId: " + orderId);
+        log.debug("[OrderService] 주문 저장 - orderId: " + orderId);
+    }
+}
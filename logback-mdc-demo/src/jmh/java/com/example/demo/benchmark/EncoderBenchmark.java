@@ -0,0 +1,79 @@
+package com.example.demo.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.encoder.Encoder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.MDC;
+
+/**
+ * Encoder 단독 비용 측정 (이벤트 1건 -> byte[])
+ *
+ * [측정 항목]
+ * - pattern    : CONSOLE_WITH_MDC 패턴
+ * - legacyJson : PatternLayout 패턴으로 JSON 모양을 흉내 내던 기존 CONSOLE_JSON (escape 없음)
+ * - json       : JsonEncoder
+ * - binary     : BinaryEncoder (사전 등록 이후의 정상 상태 레코드)
+ *
+ * [참고]
+ * - 이벤트당 출력 바이트 수는 보조 지표 encode:bytesPerEvent로 함께 기록 (OutputSize 참고)
+ * - 할당량은 gc 프로파일러의 gc.alloc.rate.norm 참고
+ */
+@State(Scope.Thread)
+public class EncoderBenchmark {
+
+    @Param({"pattern", "legacyJson", "json", "binary"})
+    public String encoder;
+
+    private Encoder<ILoggingEvent> target;
+    private ILoggingEvent event;
+
+    @Setup
+    public void setUp() {
+        MDC.put("requestId", "01JABCDEFGHJKMNPQR");
+        MDC.put("userId", "user-123");
+
+        Logger logger = BenchmarkLogging.context().getLogger("com.example.demo.service.OrderService");
+        LoggingEvent loggingEvent = new LoggingEvent(Logger.class.getName(), logger, Level.INFO,
+                "[OrderService] 주문 처리 시작 - orderId: {}", null, new Object[]{"ORDER-001"});
+        // 지연 계산 필드(MDC, 포맷된 메시지, 스레드 이름)를 미리 채워 Encoder 비용만 측정
+        loggingEvent.prepareForDeferredProcessing();
+        event = loggingEvent;
+
+        target = BenchmarkLogging.encoder(encoder);
+        target.encode(event);
+    }
+
+    @TearDown
+    public void tearDown() {
+        target.stop();
+        MDC.clear();
+    }
+
+    @Benchmark
+    public byte[] encode(OutputSize outputSize) {
+        byte[] bytes = target.encode(event);
+        outputSize.bytesPerEvent = bytes.length;
+        return bytes;
+    }
+
+    /**
+     * 이벤트 1건의 인코딩 결과 크기 (JMH 보조 지표, 단위 #)
+     * - 크기는 결정적이므로 마지막 호출의 값을 그대로 기록 (필드 쓰기 1회라 측정에 주는 영향은 미미)
+     * - binary는 첫 레코드에만 사전 정의가 포함되므로 Setup 이후의 값은 정상 상태 레코드 크기
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class OutputSize {
+
+        public long bytesPerEvent;
+    }
+}
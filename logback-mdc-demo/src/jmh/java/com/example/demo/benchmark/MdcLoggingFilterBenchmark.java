@@ -0,0 +1,147 @@
+package com.example.demo.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.example.demo.config.RequestLatencyMetrics;
+import com.example.demo.config.RequestLoggingProperties;
+import com.example.demo.filter.MdcLoggingFilter;
+import com.example.demo.filter.RequestIdGenerator;
+import com.example.demo.filter.TimeOrderedRequestIdGenerator;
+import com.example.demo.logging.RequestLogBuffer;
+import com.example.demo.logging.TailSamplingTurboFilter;
+import com.example.demo.mdc.MdcSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * MdcLoggingFilter 요청당 비용 측정 (기존 구현과 현재 구현 비교)
+ *
+ * [측정 항목]
+ * - filter=legacy    : 기존 구현 (헤더 2회 + MDC.put 2회 + 시작/완료 로그 2줄, 제외 경로 없음)
+ * - filter=optimized : 현재 구현 (제외 경로 트라이, MDC 일괄 설정, 접근 로그 1줄, 라우트별 처리 시간 기록)
+ * - path=/api/orders/ORDER-001 : 일반 API 요청
+ * - path=/actuator/health      : 헬스 체크 (optimized는 shouldNotFilter에서 바로 통과)
+ * - withRequestId=true  : 클라이언트가 X-Request-Id를 보낸 경우 (ID 생성 생략)
+ * - withRequestId=false : 필터가 Request ID를 생성하는 경우
+ *
+ * [참고]
+ * - doFilterInternal은 protected이므로 OncePerRequestFilter.doFilter를 통해 호출
+ * - 로그는 CONSOLE_WITH_MDC 구성으로 null 스트림에 기록
+ */
+@State(Scope.Thread)
+public class MdcLoggingFilterBenchmark {
+
+    @Param({"legacy", "optimized"})
+    public String filter;
+
+    @Param({"/api/orders/ORDER-001", "/actuator/health"})
+    public String path;
+
+    @Param({"true", "false"})
+    public boolean withRequestId;
+
+    private OncePerRequestFilter target;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain chain;
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.reset();
+        BenchmarkLogging.installRoot(BenchmarkLogging.appender("CONSOLE_WITH_MDC"), Level.INFO);
+
+        RequestIdGenerator generator = new TimeOrderedRequestIdGenerator();
+        target = filter.equals("legacy")
+                ? new LegacyMdcLoggingFilter(generator)
+                : new MdcLoggingFilter(generator, new RequestLatencyMetrics(new SimpleMeterRegistry()),
+                        new RequestLoggingProperties());
+        request = new MockHttpServletRequest("GET", path);
+        request.addHeader("X-User-Id", "user-123");
+        if (withRequestId) {
+            request.addHeader("X-Request-Id", "01JABCDEFGHJKMNPQR");
+        }
+        response = new MockHttpServletResponse();
+        chain = (req, res) -> { };
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkLogging.reset();
+    }
+
+    @Benchmark
+    public void doFilter(Blackhole bh) throws Exception {
+        target.doFilter(request, response, chain);
+        bh.consume(response.getHeader("X-Request-Id"));
+    }
+
+    /**
+     * 기존 MdcLoggingFilter 구현 (비교 기준)
+     * - 모든 경로에서 헤더를 읽어 MDC.put을 키마다 호출하고 요청 시작/완료 로그를 2줄 남김
+     */
+    static final class LegacyMdcLoggingFilter extends OncePerRequestFilter {
+
+        private static final Logger log = LoggerFactory.getLogger(MdcLoggingFilter.class);
+
+        private final RequestIdGenerator requestIdGenerator;
+
+        LegacyMdcLoggingFilter(RequestIdGenerator requestIdGenerator) {
+            this.requestIdGenerator = requestIdGenerator;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request,
+                                        HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            RequestLogBuffer tailBuffer = null;
+            boolean failed = false;
+            try {
+                String requestId = request.getHeader("X-Request-Id");
+                if (requestId == null || requestId.isEmpty()) {
+                    requestId = requestIdGenerator.generate();
+                }
+                MDC.put(MdcLoggingFilter.REQUEST_ID, requestId);
+
+                String userId = request.getHeader("X-User-Id");
+                if (userId == null || userId.isEmpty()) {
+                    userId = "anonymous";
+                }
+                MDC.put(MdcLoggingFilter.USER_ID, userId);
+
+                response.setHeader("X-Request-Id", requestId);
+                request.setAttribute(MdcSnapshot.REQUEST_ATTRIBUTE, MdcSnapshot.capture());
+                tailBuffer = TailSamplingTurboFilter.begin(requestId);
+
+                log.info(">>> 요청 시작: {} {}", request.getMethod(), request.getRequestURI());
+                filterChain.doFilter(request, response);
+                log.info("<<< 요청 완료: {} {} - Status: {}",
+                        request.getMethod(), request.getRequestURI(), response.getStatus());
+            } catch (IOException | ServletException | RuntimeException e) {
+                failed = true;
+                throw e;
+            } finally {
+                if (tailBuffer != null) {
+                    tailBuffer.complete(response.getStatus(), failed);
+                }
+                MDC.clear();
+            }
+        }
+    }
+}
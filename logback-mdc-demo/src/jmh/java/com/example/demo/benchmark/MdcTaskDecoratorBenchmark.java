@@ -0,0 +1,118 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.config.MdcTaskDecorator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+
+/**
+ * MdcTaskDecorator 왕복 비용 측정 (제출 스레드 캡처 -> 실행 스레드 설정/복원)
+ *
+ * [측정 항목]
+ * - decorate* : 요청 스레드에서 decorate() 호출 (MDC 캡처)
+ * - run*      : 다른 스레드에서 캡처된 작업을 실행 (MDC 설정 -> 작업 -> 복원)
+ * - snapshot  : 현재 MdcTaskDecorator (MdcSnapshot 참조 공유)
+ * - legacy    : 작업마다 MDC Map을 복사하던 기존 방식 (getCopyOfContextMap + setContextMap + clear)
+ */
+public class MdcTaskDecoratorBenchmark {
+
+    private static final Runnable TASK = () -> { };
+
+    /**
+     * 요청 스레드 상태: 필터가 설정하는 것과 같은 MDC가 들어 있음
+     */
+    @State(Scope.Thread)
+    public static class SubmitState {
+        final TaskDecorator snapshot = new MdcTaskDecorator();
+        final TaskDecorator legacy = new LegacyCopyingTaskDecorator();
+
+        @Setup
+        public void setUp() {
+            populateMdc();
+        }
+
+        @TearDown
+        public void tearDown() {
+            MDC.clear();
+        }
+    }
+
+    /**
+     * 작업 스레드 상태: MDC가 비어 있고, 다른 스레드에서 decorate된 작업을 실행
+     */
+    @State(Scope.Thread)
+    public static class WorkerState {
+        Runnable snapshotTask;
+        Runnable legacyTask;
+
+        @Setup
+        public void setUp() throws InterruptedException {
+            // 실행 스레드의 MDC Map과 캡처된 Map이 달라야 실제 설정/복원 경로를 탐
+            Thread submitter = new Thread(() -> {
+                populateMdc();
+                snapshotTask = new MdcTaskDecorator().decorate(TASK);
+                legacyTask = new LegacyCopyingTaskDecorator().decorate(TASK);
+                MDC.clear();
+            });
+            submitter.start();
+            submitter.join();
+            MDC.clear();
+        }
+    }
+
+    @Benchmark
+    public Runnable decorateSnapshot(SubmitState state) {
+        return state.snapshot.decorate(TASK);
+    }
+
+    @Benchmark
+    public Runnable decorateLegacy(SubmitState state) {
+        return state.legacy.decorate(TASK);
+    }
+
+    @Benchmark
+    public void runSnapshot(WorkerState state, Blackhole bh) {
+        state.snapshotTask.run();
+        bh.consume(state);
+    }
+
+    @Benchmark
+    public void runLegacy(WorkerState state, Blackhole bh) {
+        state.legacyTask.run();
+        bh.consume(state);
+    }
+
+    private static void populateMdc() {
+        MDC.put("requestId", "01JABCDEFGHJKMNPQR");
+        MDC.put("userId", "user-123");
+    }
+
+    /**
+     * 기존 MdcTaskDecorator 구현 (비교 기준)
+     * - decorate()마다 HashMap을 복사하고, 실행 후 이전 MDC로 복원하지 않고 clear()
+     */
+    static final class LegacyCopyingTaskDecorator implements TaskDecorator {
+
+        @Override
+        public Runnable decorate(Runnable runnable) {
+            Map<String, String> contextMap = MDC.getCopyOfContextMap();
+            return () -> {
+                try {
+                    if (contextMap != null) {
+                        MDC.setContextMap(contextMap);
+                    }
+                    runnable.run();
+                } finally {
+                    MDC.clear();
+                }
+            };
+        }
+    }
+}
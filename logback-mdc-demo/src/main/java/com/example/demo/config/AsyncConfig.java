@@ -1,9 +1,11 @@
 package com.example.demo.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
 
@@ -18,26 +20,110 @@ import java.util.concurrent.Executor;
  * 1. 이 설정을 추가
  * 2. Service 메서드에 @Async("mdcTaskExecutor") 추가
  * 3. MDC 값이 자동으로 비동기 스레드에 전파됨
+ *
+ * [가상 스레드 모드] (app.async.virtual-threads=true, Java 21)
+ * - 고정 크기 스레드 풀 대신 작업마다 가상 스레드 생성
+ * - Thread.sleep() / I/O 대기 중에는 캐리어 스레드를 반납하므로
+ *   블로킹 작업(이메일/알림 발송)의 처리량이 풀 크기가 아닌 동시 요청 수에 비례
+ * - MDC는 ThreadLocal 기반이므로 가상 스레드에서도 MdcTaskDecorator로 동일하게 전파됨
+ *
+ * [스레드 풀 설정]
+ * - 풀 크기/큐 용량/거부 정책은 application.yml의 app.async.mdc-executor.* 로 설정
+ * - 실행 중 변경: /actuator/asyncexecutors (AsyncExecutorEndpoint 참고)
+ *
+ * [메트릭]
+ * - 작업별 큐 대기/실행 시간, 풀 포화도: AsyncTaskMetrics 참고
  */
 @Configuration
 @EnableAsync
+@EnableConfigurationProperties({AsyncProperties.class, OrderBatchProperties.class})
 public class AsyncConfig {
 
     @Bean(name = "mdcTaskExecutor")
-    public Executor mdcTaskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-
-        // 스레드 풀 설정
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("MDC-Async-");
-
+    public Executor mdcTaskExecutor(AsyncProperties properties, AsyncTaskMetrics metrics) {
         // 핵심: MdcTaskDecorator 설정
         // 이 설정으로 @Async 사용 시 MDC가 자동으로 전파됨
-        executor.setTaskDecorator(new MdcTaskDecorator());
+        // (TaskMetricsDecorator로 감싸 큐 대기/실행 시간도 함께 측정)
+        TaskDecorator taskDecorator =
+                new TaskMetricsDecorator("mdcTaskExecutor", metrics, new MdcTaskDecorator());
+
+        if (properties.isVirtualThreads()) {
+            return virtualThreadExecutor("MDC-Virtual-", taskDecorator);
+        }
+
+        // 스레드 풀 설정 (app.async.mdc-executor.*)
+        ResizableThreadPoolTaskExecutor executor =
+                ResizableThreadPoolTaskExecutor.of(properties.getMdcExecutor(), "MDC-Async-");
+        executor.setTaskDecorator(taskDecorator);
 
         executor.initialize();
+        metrics.bindSaturation("mdcTaskExecutor", executor);
+        return executor;
+    }
+
+    /**
+     * OrderService 비동기 주문 처리용 Executor
+     *
+     * [기존 방식의 문제점] - Executors.newFixedThreadPool(2)
+     * - 종료(shutdown)되지 않음 -> 애플리케이션 종료 시 처리 중인 주문 유실
+     * - 무제한 큐(LinkedBlockingQueue) -> 요청 폭주 시 메모리 무한 증가
+     * - 기본 스레드 이름(pool-1-thread-1)과 MDC 전파 없음 -> 로그 추적 불가
+     *
+     * [개선]
+     * - Spring Bean으로 관리: 종료 시 대기 중인 주문까지 처리 후 종료 (최대 shutdown-timeout)
+     * - 큐 용량 제한 + 거부 정책(기본 caller-runs)으로 백프레셔
+     * - MdcTaskDecorator + TaskMetricsDecorator로 MDC 전파 및 메트릭 수집
+     */
+    @Bean(name = "orderTaskExecutor")
+    public Executor orderTaskExecutor(AsyncProperties properties, AsyncTaskMetrics metrics) {
+        TaskDecorator taskDecorator =
+                new TaskMetricsDecorator("orderTaskExecutor", metrics, new MdcTaskDecorator());
+        AsyncProperties.Pool pool = properties.getOrderExecutor();
+
+        if (properties.isVirtualThreads()) {
+            SimpleAsyncTaskExecutor executor = virtualThreadExecutor("Order-Virtual-", taskDecorator);
+            // 동시 처리 주문 수 제한 (초과 시 제출 스레드가 대기 -> 백프레셔)
+            executor.setConcurrencyLimit(pool.getMaxPoolSize() + pool.getQueueCapacity());
+            executor.setTaskTerminationTimeout(properties.getShutdownTimeout().toMillis());
+            return executor;
+        }
+
+        ResizableThreadPoolTaskExecutor executor = ResizableThreadPoolTaskExecutor.of(pool, "Order-");
+        executor.setTaskDecorator(taskDecorator);
+
+        // 종료 시 처리 중인 주문이 끝날 때까지 대기
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationMillis(properties.getShutdownTimeout().toMillis());
+
+        executor.initialize();
+        metrics.bindSaturation("orderTaskExecutor", executor);
+        return executor;
+    }
+
+    /**
+     * 일괄 주문 처리(OrderService.processBatchOrder)용 Executor
+     * - app.async.virtual-threads 설정과 무관하게 항상 가상 스레드 사용
+     *   (주문 처리는 대부분 I/O 대기 -> 수천 건을 동시에 올려도 플랫폼 스레드를 점유하지 않음)
+     * - 동시 처리 수는 배치마다 app.order-batch.parallelism 으로 제한 (NdjsonStream 참고)
+     */
+    @Bean(name = "orderBatchExecutor")
+    public Executor orderBatchExecutor(AsyncProperties properties, AsyncTaskMetrics metrics) {
+        TaskDecorator taskDecorator =
+                new TaskMetricsDecorator("orderBatchExecutor", metrics, new MdcTaskDecorator());
+        SimpleAsyncTaskExecutor executor = virtualThreadExecutor("OrderBatch-", taskDecorator);
+        executor.setTaskTerminationTimeout(properties.getShutdownTimeout().toMillis());
+        return executor;
+    }
+
+    /**
+     * 작업마다 가상 스레드를 생성하는 Executor
+     * - 풀/큐가 없으므로 크기 설정이 필요 없음
+     * - 가상 스레드에서도 TaskDecorator가 적용되어 MDC 전파됨
+     */
+    private SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix, TaskDecorator taskDecorator) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(taskDecorator);
         return executor;
     }
 }
@@ -0,0 +1,103 @@
+package com.example.demo.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 스레드 풀 설정을 실행 중에 조회/변경하는 Actuator 엔드포인트
+ *
+ * [사용 방법]
+ * 1. 현재 설정 조회:
+ *    curl http://localhost:8080/actuator/asyncexecutors
+ *
+ * 2. 풀 크기/큐 용량/거부 정책 변경 (생략한 값은 유지):
+ *    curl -X POST http://localhost:8080/actuator/asyncexecutors/mdcTaskExecutor \
+ *         -H "Content-Type: application/json" \
+ *         -d '{"corePoolSize":20,"maxPoolSize":40,"queueCapacity":500,"rejectionPolicy":"shed"}'
+ *
+ * [참고]
+ * - 변경 값은 메모리에만 반영됨 (재기동 시 application.yml 값으로 돌아감)
+ * - 가상 스레드 모드에서는 조정할 풀이 없으므로 목록이 비어 있음
+ * - 없는 Executor 이름, 잘못된 풀 크기/큐 용량은 400 Bad Request (아무것도 변경되지 않음)
+ */
+@Component
+@Endpoint(id = "asyncexecutors")
+@RequiredArgsConstructor
+public class AsyncExecutorEndpoint {
+
+    private final ListableBeanFactory beanFactory;
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> executors() {
+        Map<String, Map<String, Object>> result = new TreeMap<>();
+        executorBeans().forEach((name, executor) -> result.put(name, describe(executor)));
+        return result;
+    }
+
+    @ReadOperation
+    public Map<String, Object> executor(@Selector String name) {
+        return describe(getExecutor(name));
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(@Selector String name,
+                                      @Nullable Integer corePoolSize,
+                                      @Nullable Integer maxPoolSize,
+                                      @Nullable Integer queueCapacity,
+                                      @Nullable RejectionPolicy rejectionPolicy) {
+        ResizableThreadPoolTaskExecutor executor = getExecutor(name);
+        try {
+            executor.resize(corePoolSize, maxPoolSize, queueCapacity);
+        } catch (IllegalArgumentException e) {
+            throw badRequest(e.getMessage());
+        }
+        if (rejectionPolicy != null) {
+            executor.setRejectionPolicy(rejectionPolicy);
+        }
+        return describe(executor);
+    }
+
+    private Map<String, ResizableThreadPoolTaskExecutor> executorBeans() {
+        // 실행 시점에 조회 (Bean 메서드 반환 타입이 Executor라 주입 시점에는 타입 판별 불가)
+        return beanFactory.getBeansOfType(ResizableThreadPoolTaskExecutor.class);
+    }
+
+    private ResizableThreadPoolTaskExecutor getExecutor(String name) {
+        ResizableThreadPoolTaskExecutor executor = executorBeans().get(name);
+        if (executor == null) {
+            throw badRequest("Unknown executor: " + name);
+        }
+        return executor;
+    }
+
+    /**
+     * Actuator가 400 Bad Request로 응답하는 예외 (IllegalArgumentException 등은 500으로 응답됨)
+     */
+    private static InvalidEndpointRequestException badRequest(String message) {
+        return new InvalidEndpointRequestException(message, message);
+    }
+
+    private Map<String, Object> describe(ResizableThreadPoolTaskExecutor executor) {
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("corePoolSize", executor.getCorePoolSize());
+        info.put("maxPoolSize", executor.getMaxPoolSize());
+        info.put("queueCapacity", executor.getQueueCapacity());
+        info.put("rejectionPolicy", executor.getRejectionPolicy());
+        info.put("poolSize", executor.getPoolSize());
+        info.put("activeCount", executor.getActiveCount());
+        info.put("queueSize", executor.getQueueSize());
+        info.put("queueRemainingCapacity", executor.getQueueRemainingCapacity());
+        return info;
+    }
+}
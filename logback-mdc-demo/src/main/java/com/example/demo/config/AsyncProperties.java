@@ -0,0 +1,84 @@
+package com.example.demo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 비동기 실행 설정 (application.yml의 app.async.*)
+ *
+ * [설정 예시]
+ * app:
+ *   async:
+ *     virtual-threads: false
+ *     mdc-executor:
+ *       core-pool-size: 5
+ *       max-pool-size: 10
+ *       queue-capacity: 100
+ *       rejection-policy: caller-runs
+ *     order-executor:
+ *       core-pool-size: 2
+ *       max-pool-size: 4
+ *       queue-capacity: 200
+ *     queue-wait-warn-threshold: 1s
+ *     shutdown-timeout: 30s
+ *
+ * [참고]
+ * - 기동 후에는 /actuator/asyncexecutors 로 풀 크기/큐 용량/거부 정책을 재배포 없이 변경 가능
+ * - virtual-threads=true 이면 풀 설정은 사용되지 않음 (작업마다 가상 스레드 생성)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.async")
+public class AsyncProperties {
+
+    /**
+     * 가상 스레드 사용 여부 (Java 21)
+     */
+    private boolean virtualThreads = false;
+
+    /**
+     * @Async("mdcTaskExecutor") 스레드 풀 설정
+     */
+    private Pool mdcExecutor = new Pool(5, 10, 100);
+
+    /**
+     * OrderService 비동기 주문 처리용 스레드 풀 설정
+     */
+    private Pool orderExecutor = new Pool(2, 4, 200);
+
+    /**
+     * 종료 시 실행 중/대기 중인 작업이 끝나기를 기다리는 최대 시간
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+    /**
+     * 큐 대기 시간이 이 값을 넘은 작업은 WARN 로그로 기록 (MDC 포함)
+     */
+    private Duration queueWaitWarnThreshold = Duration.ofSeconds(1);
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        private int corePoolSize;
+        private int maxPoolSize;
+        private int queueCapacity;
+
+        /**
+         * 큐가 가득 찼을 때의 처리 방식
+         */
+        private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+
+        public Pool() {
+        }
+
+        public Pool(int corePoolSize, int maxPoolSize, int queueCapacity) {
+            this.corePoolSize = corePoolSize;
+            this.maxPoolSize = maxPoolSize;
+            this.queueCapacity = queueCapacity;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.demo.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 작업의 대기 시간 / 실행 시간 / 스레드 풀 포화도 메트릭
+ *
+ * [노출 메트릭] (tag: executor=Executor Bean 이름, origin=@Async 메서드)
+ * - async.task.queue.wait : 큐에서 대기한 시간 (제출 ~ 실행 시작)
+ * - async.task.run        : 실제 실행 시간 (실행 시작 ~ 완료)
+ * - async.executor.saturation       : 활성 스레드 수 / 최대 풀 크기
+ * - async.executor.queue.saturation : 큐 사용량 / 큐 용량
+ *
+ * [핵심 포인트]
+ * - p50/p99/p999는 Micrometer의 HdrHistogram 기반 분포로 계산 (작업당 기록 비용이 낮음)
+ * - Timer는 (executor, origin) 조합별로 한 번만 생성하여 캐시
+ * - requestId 같은 고유 값은 메트릭 태그로 쓰면 카디널리티가 폭발하므로,
+ *   대기 시간이 임계값을 넘은 작업은 MDC가 설정된 상태에서 WARN 로그로 남겨 요청과 연결
+ *
+ * [확인 방법]
+ * curl "http://localhost:8080/actuator/metrics/async.task.queue.wait?tag=origin:AsyncDemoService.processNotification"
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AsyncTaskMetrics {
+
+    private static final double[] PERCENTILES = {0.5, 0.99, 0.999};
+
+    private final MeterRegistry registry;
+    private final AsyncProperties properties;
+
+    private final Map<String, Map<String, TaskTimers>> timers = new ConcurrentHashMap<>();
+
+    /**
+     * 작업 1건의 대기/실행 시간 기록
+     * - 실행 스레드에서 호출되며, 이 시점에 MDC(requestId 등)가 설정되어 있음
+     */
+    public void record(String executorName, String origin, long queueWaitNanos, long runNanos) {
+        TaskTimers taskTimers = timers
+                .computeIfAbsent(executorName, name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(origin, o -> new TaskTimers(executorName, o));
+        taskTimers.queueWait.record(queueWaitNanos, TimeUnit.NANOSECONDS);
+        taskTimers.run.record(runNanos, TimeUnit.NANOSECONDS);
+
+        if (queueWaitNanos > properties.getQueueWaitWarnThreshold().toNanos()) {
+            log.warn("[AsyncTaskMetrics] 큐 대기 지연 - executor: {}, origin: {}, queueWait: {}ms, run: {}ms",
+                    executorName, origin,
+                    TimeUnit.NANOSECONDS.toMillis(queueWaitNanos), TimeUnit.NANOSECONDS.toMillis(runNanos));
+        } else if (log.isDebugEnabled()) {
+            log.debug("[AsyncTaskMetrics] executor: {}, origin: {}, queueWait: {}us, run: {}us",
+                    executorName, origin,
+                    TimeUnit.NANOSECONDS.toMicros(queueWaitNanos), TimeUnit.NANOSECONDS.toMicros(runNanos));
+        }
+    }
+
+    /**
+     * 스레드 풀 포화도 Gauge 등록
+     */
+    public void bindSaturation(String executorName, ResizableThreadPoolTaskExecutor executor) {
+        Gauge.builder("async.executor.saturation", executor,
+                        e -> (double) e.getActiveCount() / Math.max(1, e.getMaxPoolSize()))
+                .tag("executor", executorName)
+                .description("active threads / max pool size")
+                .register(registry);
+        Gauge.builder("async.executor.queue.saturation", executor,
+                        e -> (double) e.getQueueSize() / Math.max(1, e.getQueueCapacity()))
+                .tag("executor", executorName)
+                .description("queued tasks / queue capacity")
+                .register(registry);
+    }
+
+    private final class TaskTimers {
+
+        private final Timer queueWait;
+        private final Timer run;
+
+        private TaskTimers(String executorName, String origin) {
+            this.queueWait = timer("async.task.queue.wait", "time spent waiting in the executor queue",
+                    executorName, origin);
+            this.run = timer("async.task.run", "time spent running the task", executorName, origin);
+        }
+
+        private Timer timer(String name, String description, String executorName, String origin) {
+            return Timer.builder(name)
+                    .description(description)
+                    .tag("executor", executorName)
+                    .tag("origin", origin)
+                    .publishPercentiles(PERCENTILES)
+                    .distributionStatisticExpiry(Duration.ofMinutes(1))
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.demo.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @Async 메서드 이름을 작업 메트릭의 origin으로 기록하는 Aspect
+ *
+ * [동작 원리]
+ * - Spring은 @Async 인터셉터를 다른 Advisor보다 앞에 두므로,
+ *   이 Aspect는 작업이 제출된 뒤 비동기 스레드에서 실행됨
+ * - 따라서 TaskMetricsDecorator가 측정 중인 작업에 메서드 이름을 붙일 수 있음
+ * - origin 문자열은 메서드별로 한 번만 만들어 캐시
+ */
+@Aspect
+@Component
+public class AsyncTaskOriginAspect {
+
+    private final Map<Method, String> origins = new ConcurrentHashMap<>();
+
+    @Around("@annotation(org.springframework.scheduling.annotation.Async)")
+    public Object markOrigin(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        TaskMetricsDecorator.markOrigin(origins.computeIfAbsent(method,
+                m -> m.getDeclaringClass().getSimpleName() + "." + m.getName()));
+        return joinPoint.proceed();
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.demo.config;
+
+import com.example.demo.email.EmailDispatcher;
+import com.example.demo.email.EmailTransport;
+import com.example.demo.email.FakeSmtpTransport;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 이메일 발송 파이프라인 설정
+ *
+ * [핵심 포인트]
+ * - 기본 EmailTransport는 FakeSmtpTransport (실제 발송 없이 fake-latency 후 완료)
+ * - 실제 SMTP/메일 API 구현을 EmailTransport Bean으로 등록하면 그것을 우선 사용 (교체 가능)
+ * - EmailDispatcher는 종료 시 큐에 남은 이메일과 진행 중인 발송을 마친 뒤 종료 (close)
+ *
+ * [노출 메트릭]
+ * - email.queue.depth     : 발송 대기 중인 이메일 수
+ * - email.sends.in-flight : 진행 중인 발송 수 (최대 app.email.max-concurrent-sends)
+ * - email.sent            : 발송 완료된 이메일 수 (누적)
+ * - email.failed          : 발송 실패한 이메일 수 (누적)
+ * - email.sends           : EmailTransport 호출 수 (누적, email.sent / email.sends = 평균 묶음 크기)
+ */
+@Configuration
+@EnableConfigurationProperties(EmailProperties.class)
+public class EmailConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(EmailTransport.class)
+    public FakeSmtpTransport emailTransport(EmailProperties properties) {
+        return new FakeSmtpTransport(properties.getFakeLatency());
+    }
+
+    @Bean
+    public EmailDispatcher emailDispatcher(EmailTransport transport, EmailProperties properties) {
+        return new EmailDispatcher(transport, properties);
+    }
+
+    @Bean
+    public MeterBinder emailDispatcherMetrics(EmailDispatcher dispatcher) {
+        return registry -> {
+            Gauge.builder("email.queue.depth", dispatcher, EmailDispatcher::getQueueDepth)
+                    .register(registry);
+            Gauge.builder("email.sends.in-flight", dispatcher, EmailDispatcher::getInFlightSends)
+                    .register(registry);
+            FunctionCounter.builder("email.sent", dispatcher, EmailDispatcher::getSentEmails)
+                    .register(registry);
+            FunctionCounter.builder("email.failed", dispatcher, EmailDispatcher::getFailedEmails)
+                    .register(registry);
+            FunctionCounter.builder("email.sends", dispatcher, EmailDispatcher::getSends)
+                    .register(registry);
+        };
+    }
+}
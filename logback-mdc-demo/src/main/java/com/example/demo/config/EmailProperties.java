@@ -0,0 +1,59 @@
+package com.example.demo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 이메일 발송 설정 (application.yml의 app.email.*)
+ *
+ * [설정 예시]
+ * app:
+ *   email:
+ *     queue-capacity: 10000
+ *     max-recipients-per-send: 50
+ *     max-concurrent-sends: 16
+ *     batch-linger: 10ms
+ *     send-timeout: 30s
+ *     fake-latency: 100ms
+ *
+ * [참고]
+ * - EmailTransport Bean을 직접 등록하지 않으면 FakeSmtpTransport(fake-latency 후 완료)를 사용
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.email")
+public class EmailProperties {
+
+    /**
+     * 발송 대기 큐 용량 (가득 차면 TaskRejectedException -> 503)
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * 한 번의 발송에 묶을 최대 수신자 수 (제목/본문이 같은 이메일끼리만 묶음)
+     */
+    private int maxRecipientsPerSend = 50;
+
+    /**
+     * 동시에 진행할 수 있는 최대 발송 수 (EmailTransport에 대한 동시성 상한)
+     */
+    private int maxConcurrentSends = 16;
+
+    /**
+     * 묶음을 만들기 위해 첫 이메일 이후 추가 이메일을 기다리는 최대 시간
+     */
+    private Duration batchLinger = Duration.ofMillis(10);
+
+    /**
+     * 발송 1건의 최대 대기 시간 (넘으면 실패 처리)
+     */
+    private Duration sendTimeout = Duration.ofSeconds(30);
+
+    /**
+     * FakeSmtpTransport의 발송 지연 시간
+     */
+    private Duration fakeLatency = Duration.ofMillis(100);
+}
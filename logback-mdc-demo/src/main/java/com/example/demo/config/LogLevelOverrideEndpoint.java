@@ -0,0 +1,100 @@
+package com.example.demo.config;
+
+import ch.qos.logback.classic.Level;
+import com.example.demo.logging.LevelOverrideTable;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MDC 값별 로그 레벨 오버라이드를 실행 중에 등록/조회/삭제하는 Actuator 엔드포인트
+ *
+ * [사용 방법]
+ * 1. 특정 사용자의 요청만 DEBUG로 출력 (ttl 생략 시 30분 후 자동 해제):
+ *    curl -X POST http://localhost:8080/actuator/logoverrides/userId/user-123 \
+ *         -H "Content-Type: application/json" \
+ *         -d '{"level":"DEBUG","ttl":"PT10M"}'
+ *
+ * 2. 현재 오버라이드 조회:
+ *    curl http://localhost:8080/actuator/logoverrides
+ *
+ * 3. 해제:
+ *    curl -X DELETE http://localhost:8080/actuator/logoverrides/userId/user-123
+ *
+ * [참고]
+ * - MdcLevelOverrideTurboFilter가 logback-spring.xml에 선언되어 있어야 적용됨
+ * - 오버라이드는 메모리에만 저장됨 (재기동 시 사라짐)
+ * - 잘못된 level/ttl, 최대 개수(LevelOverrideTable.MAX_OVERRIDES) 초과는 400 Bad Request
+ */
+@Component
+@Endpoint(id = "logoverrides")
+public class LogLevelOverrideEndpoint {
+
+    static final Duration DEFAULT_TTL = Duration.ofMinutes(30);
+    static final Duration MAX_TTL = Duration.ofHours(24);
+
+    private final LevelOverrideTable table = LevelOverrideTable.shared();
+
+    @ReadOperation
+    public List<Map<String, Object>> overrides() {
+        return table.list().stream().map(this::describe).toList();
+    }
+
+    @WriteOperation
+    public Map<String, Object> put(@Selector String key,
+                                   @Selector String value,
+                                   String level,
+                                   @Nullable Duration ttl) {
+        Level parsed = Level.toLevel(level, null);
+        if (parsed == null) {
+            throw badRequest("Unknown level: " + level);
+        }
+        Duration effectiveTtl = ttl == null ? DEFAULT_TTL : ttl;
+        if (effectiveTtl.isNegative() || effectiveTtl.isZero() || effectiveTtl.compareTo(MAX_TTL) > 0) {
+            throw badRequest("ttl must be between 0 and " + MAX_TTL + " but was " + effectiveTtl);
+        }
+        long expiresAt = System.currentTimeMillis() + effectiveTtl.toMillis();
+        try {
+            return describe(table.put(key, value, parsed, expiresAt));
+        } catch (IllegalStateException e) {
+            // 최대 오버라이드 수 초과
+            throw badRequest(e.getMessage());
+        }
+    }
+
+    @DeleteOperation
+    public Map<String, Object> remove(@Selector String key, @Selector String value) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("key", key);
+        result.put("value", value);
+        result.put("removed", table.remove(key, value));
+        return result;
+    }
+
+    /**
+     * Actuator가 400 Bad Request로 응답하는 예외 (IllegalArgumentException 등은 500으로 응답됨)
+     */
+    private static InvalidEndpointRequestException badRequest(String message) {
+        return new InvalidEndpointRequestException(message, message);
+    }
+
+    private Map<String, Object> describe(LevelOverrideTable.LevelOverride override) {
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("key", override.mdcKey());
+        info.put("value", override.mdcValue());
+        info.put("level", override.level().toString());
+        info.put("expiresAt", Instant.ofEpochMilli(override.expiresAtMillis()).toString());
+        return info;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.demo.config;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import com.example.demo.logging.BatchingAsyncAppender;
+import com.example.demo.logging.TailSamplingTurboFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 로깅 파이프라인 메트릭 설정
+ *
+ * [핵심 포인트]
+ * - Logback Appender는 Spring Context보다 먼저 생성되므로 Bean으로 주입할 수 없음
+ * - LoggerContext에 붙어 있는 BatchingAsyncAppender를 찾아 Micrometer에 등록
+ *
+ * [노출 메트릭] (tag: appender=Appender 이름)
+ * - logging.async.queue.depth     : 현재 큐에 쌓인 이벤트 수
+ * - logging.async.queue.remaining : 큐 잔여 용량
+ * - logging.async.enqueued        : 큐에 들어간 이벤트 수 (누적)
+ * - logging.async.dropped         : 백프레셔로 폐기된 이벤트 수 (누적)
+ * - logging.async.batches         : 소비자 스레드가 처리한 배치 수 (누적)
+ * - logging.async.deferred        : 메시지 포맷을 소비자 스레드로 미룬 이벤트 수 (누적)
+ *
+ * [테일 샘플링 메트릭] (TailSamplingTurboFilter가 설치된 경우)
+ * - logging.tail.active      : 로그를 보관 중인 요청 수
+ * - logging.tail.replayed    : 보관한 로그를 출력한 요청 수 (누적)
+ * - logging.tail.discarded   : 보관한 로그를 버린 요청 수 (누적)
+ * - logging.tail.overwritten : 버퍼가 가득 차 덮어쓴 이벤트 수 (누적)
+ *
+ * [확인 방법]
+ * curl http://localhost:8080/actuator/metrics/logging.async.dropped
+ */
+@Configuration
+public class LoggingMetricsConfig {
+
+    @Bean
+    public MeterBinder asyncAppenderMetrics() {
+        return registry -> {
+            for (BatchingAsyncAppender appender : findAsyncAppenders()) {
+                String name = appender.getName();
+
+                Gauge.builder("logging.async.queue.depth", appender, BatchingAsyncAppender::getQueueDepth)
+                        .tag("appender", name)
+                        .register(registry);
+                Gauge.builder("logging.async.queue.remaining", appender, BatchingAsyncAppender::getRemainingCapacity)
+                        .tag("appender", name)
+                        .register(registry);
+                FunctionCounter.builder("logging.async.enqueued", appender, BatchingAsyncAppender::getEnqueuedCount)
+                        .tag("appender", name)
+                        .register(registry);
+                FunctionCounter.builder("logging.async.dropped", appender, BatchingAsyncAppender::getDroppedCount)
+                        .tag("appender", name)
+                        .register(registry);
+                FunctionCounter.builder("logging.async.batches", appender, BatchingAsyncAppender::getBatchCount)
+                        .tag("appender", name)
+                        .register(registry);
+                FunctionCounter.builder("logging.async.deferred", appender, BatchingAsyncAppender::getDeferredCount)
+                        .tag("appender", name)
+                        .register(registry);
+            }
+
+            for (TailSamplingTurboFilter filter : findTailSamplingFilters()) {
+                Gauge.builder("logging.tail.active", filter, TailSamplingTurboFilter::getActiveRequests)
+                        .register(registry);
+                FunctionCounter.builder("logging.tail.replayed", filter, TailSamplingTurboFilter::getReplayedRequests)
+                        .register(registry);
+                FunctionCounter.builder("logging.tail.discarded", filter, TailSamplingTurboFilter::getDiscardedRequests)
+                        .register(registry);
+                FunctionCounter.builder("logging.tail.overwritten", filter, TailSamplingTurboFilter::getOverwrittenEvents)
+                        .register(registry);
+            }
+        };
+    }
+
+    private static List<TailSamplingTurboFilter> findTailSamplingFilters() {
+        List<TailSamplingTurboFilter> result = new ArrayList<>();
+        if (LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext) {
+            for (TurboFilter filter : loggerContext.getTurboFilterList()) {
+                if (filter instanceof TailSamplingTurboFilter tailSampling) {
+                    result.add(tailSampling);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static List<BatchingAsyncAppender> findAsyncAppenders() {
+        List<BatchingAsyncAppender> result = new ArrayList<>();
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext)) {
+            return result;
+        }
+
+        for (Logger logger : loggerContext.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> it = logger.iteratorForAppenders();
+            while (it.hasNext()) {
+                if (it.next() instanceof BatchingAsyncAppender asyncAppender && !result.contains(asyncAppender)) {
+                    result.add(asyncAppender);
+                }
+            }
+        }
+        return result;
+    }
+}
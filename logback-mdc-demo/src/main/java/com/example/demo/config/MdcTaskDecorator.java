@@ -1,10 +1,8 @@
 package com.example.demo.config;
 
-import org.slf4j.MDC;
+import com.example.demo.mdc.MdcSnapshot;
 import org.springframework.core.task.TaskDecorator;
 
-import java.util.Map;
-
 /**
  * MDC 컨텍스트를 비동기 스레드로 전파하는 TaskDecorator
  *
@@ -13,33 +11,27 @@ import java.util.Map;
  * - TaskDecorator를 사용하면 자동으로 MDC 값을 복사/전파 가능
  *
  * [동작 원리]
- * 1. 원본 Runnable이 제출될 때 현재 스레드의 MDC 복사
+ * 1. 원본 Runnable이 제출될 때 현재 스레드의 MDC 스냅샷 캡처
  * 2. 새 Runnable로 감싸서 반환
- * 3. 새 스레드에서 실행 시 복사한 MDC 값 설정
- * 4. 실행 완료 후 MDC 정리
+ * 3. 새 스레드에서 실행 시 스냅샷의 MDC 값 설정
+ * 4. 실행 완료 후 실행 전 MDC로 복원
+ *
+ * [성능 포인트]
+ * - 이전: 제출 시 getCopyOfContextMap() + 실행 시 setContextMap()으로 작업당 HashMap 2번 복사
+ * - 현재: 제출 시 복사 없음, 실행 시 작업당 1번 복사
+ *   - 제출: MdcSnapshot.capture()는 요청 스레드에 캐시된 Logback 읽기 전용 Map 참조만 가져옴
+ *     (읽기 전용 Map은 MDC가 바뀐 뒤 처음 조회될 때 한 번 만들어지고, 같은 요청의 작업들이 공유)
+ *   - 실행: install()의 MDC.setContextMap()이 실행 스레드의 쓰기용 Map으로 복사
+ *     (작업이 로그를 남기면 Logback이 읽기 전용 Map을 한 번 더 만듦, MdcSnapshot [install 시 복사가 남는 이유] 참고)
  */
 public class MdcTaskDecorator implements TaskDecorator {
 
     @Override
     public Runnable decorate(Runnable runnable) {
-        // 1. 현재 스레드(요청 스레드)의 MDC 복사
-        Map<String, String> contextMap = MDC.getCopyOfContextMap();
-
-        // 2. 새로운 Runnable로 감싸서 반환
-        return () -> {
-            try {
-                // 3. 비동기 스레드에서 실행 전에 MDC 설정
-                if (contextMap != null) {
-                    MDC.setContextMap(contextMap);
-                }
-
-                // 4. 원본 작업 실행
-                runnable.run();
+        // 1. 현재 스레드(요청 스레드)의 MDC 스냅샷 캡처 (Map 복사 없이 참조만 보관)
+        MdcSnapshot snapshot = MdcSnapshot.capture();
 
-            } finally {
-                // 5. 작업 완료 후 MDC 정리
-                MDC.clear();
-            }
-        };
+        // 2~4. 실행 스레드에 스냅샷 설정 -> 원본 작업 실행 -> MDC 복원
+        return snapshot.wrap(runnable);
     }
 }
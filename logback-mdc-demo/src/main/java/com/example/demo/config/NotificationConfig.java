@@ -0,0 +1,69 @@
+package com.example.demo.config;
+
+import com.example.demo.notification.InMemoryNotificationStore;
+import com.example.demo.notification.JdbcNotificationStore;
+import com.example.demo.notification.NotificationStore;
+import com.example.demo.notification.NotificationWriteBehindBuffer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.sql.SQLException;
+
+/**
+ * 알림 저장 (Write-Behind) 설정
+ *
+ * [핵심 포인트]
+ * - app.notification.store 값에 따라 저장소 선택 (memory | h2)
+ * - 다른 NotificationStore Bean을 등록하면 그것을 우선 사용 (교체 가능)
+ * - 버퍼는 저장소보다 먼저 종료됨 (버퍼가 저장소에 의존)
+ *   -> 버퍼가 남은 알림을 모두 저장한 뒤 저장소를 닫음 (저장소 close()는 여러 번 호출되어도 안전)
+ *
+ * [노출 메트릭]
+ * - notification.queue.depth : 저장 대기 중인 알림 수
+ * - notification.flushed     : 저장된 알림 수 (누적)
+ * - notification.flushes     : 저장소 쓰기 횟수 (누적, flushed / flushes = 평균 묶음 크기)
+ * - notification.failed      : 재시도 후에도 저장하지 못한 알림 수 (누적)
+ */
+@Configuration
+@EnableConfigurationProperties(NotificationProperties.class)
+public class NotificationConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(NotificationStore.class)
+    @ConditionalOnProperty(prefix = "app.notification", name = "store", havingValue = "h2")
+    public JdbcNotificationStore jdbcNotificationStore(NotificationProperties properties) throws SQLException {
+        return new JdbcNotificationStore(properties.getJdbcUrl(), properties.getUsername(), properties.getPassword());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(NotificationStore.class)
+    public InMemoryNotificationStore inMemoryNotificationStore() {
+        return new InMemoryNotificationStore();
+    }
+
+    @Bean
+    public NotificationWriteBehindBuffer notificationWriteBehindBuffer(NotificationStore store,
+                                                                       NotificationProperties properties) {
+        return new NotificationWriteBehindBuffer(store, properties);
+    }
+
+    @Bean
+    public MeterBinder notificationWriteBehindMetrics(NotificationWriteBehindBuffer buffer) {
+        return registry -> {
+            Gauge.builder("notification.queue.depth", buffer, NotificationWriteBehindBuffer::getQueueDepth)
+                    .register(registry);
+            FunctionCounter.builder("notification.flushed", buffer, NotificationWriteBehindBuffer::getFlushedNotifications)
+                    .register(registry);
+            FunctionCounter.builder("notification.flushes", buffer, NotificationWriteBehindBuffer::getFlushes)
+                    .register(registry);
+            FunctionCounter.builder("notification.failed", buffer, NotificationWriteBehindBuffer::getFailedNotifications)
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.demo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 알림 저장 설정 (application.yml의 app.notification.*)
+ *
+ * [설정 예시]
+ * app:
+ *   notification:
+ *     store: h2
+ *     jdbc-url: jdbc:h2:file:./data/notifications
+ *     flush-size: 500
+ *     flush-interval: 200ms
+ *     queue-capacity: 50000
+ *
+ * [참고]
+ * - store=memory(기본): 메모리에 저장 (재기동 시 사라짐)
+ * - store=h2: 임베디드 H2 파일 DB에 배치 INSERT
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.notification")
+public class NotificationProperties {
+
+    /**
+     * 저장소 종류 (memory | h2)
+     */
+    private String store = "memory";
+
+    /**
+     * store=h2 일 때 JDBC URL
+     */
+    private String jdbcUrl = "jdbc:h2:file:./data/notifications";
+
+    private String username = "sa";
+
+    private String password = "";
+
+    /**
+     * 이 개수만큼 쌓이면 바로 저장
+     */
+    private int flushSize = 500;
+
+    /**
+     * 첫 알림이 들어온 뒤 이 시간이 지나면 개수와 무관하게 저장
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /**
+     * 저장 대기 큐 용량 (가득 차면 TaskRejectedException -> 503)
+     */
+    private int queueCapacity = 50_000;
+
+    /**
+     * 저장 실패 시 같은 묶음을 재시도하는 최대 횟수 (넘으면 ERROR 로그 후 폐기)
+     */
+    private int maxRetries = 5;
+}
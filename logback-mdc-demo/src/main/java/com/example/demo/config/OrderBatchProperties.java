@@ -0,0 +1,38 @@
+package com.example.demo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 일괄 주문 처리 설정 (application.yml의 app.order-batch.*)
+ *
+ * [설정 예시]
+ * app:
+ *   order-batch:
+ *     max-orders: 10000
+ *     parallelism: 64
+ *     timeout: 5m
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.order-batch")
+public class OrderBatchProperties {
+
+    /**
+     * 요청 1건에 담을 수 있는 최대 주문 수 (초과 시 400)
+     */
+    private int maxOrders = 10_000;
+
+    /**
+     * 배치 1건에서 동시에 진행할 최대 주문 수 (처리 중 + 응답 쓰기 대기)
+     */
+    private int parallelism = 64;
+
+    /**
+     * 배치 전체의 최대 처리 시간 (초과 시 남은 주문은 처리하지 않고 응답 종료)
+     */
+    private Duration timeout = Duration.ofMinutes(5);
+}
@@ -0,0 +1,62 @@
+package com.example.demo.config;
+
+import com.example.demo.notification.LoggingPushTransport;
+import com.example.demo.notification.PushFanoutEngine;
+import com.example.demo.notification.PushTransport;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 푸시 알림 팬아웃 설정
+ *
+ * [핵심 포인트]
+ * - 기본 PushTransport는 LoggingPushTransport (실제 발송 없이 DEBUG 로그)
+ * - 실제 FCM/APNs 구현을 PushTransport Bean으로 등록하면 그것을 우선 사용 (교체 가능)
+ *
+ * [노출 메트릭]
+ * - push.queue.depth      : 샤드별 대기 메시지 수 (tag: shard)
+ * - push.messages         : 받은 메시지 수 (누적)
+ * - push.sent             : 발송한 푸시 수 (누적)
+ * - push.failed           : 발송 실패한 푸시 수 (누적)
+ * - push.coalescing.ratio : 받은 메시지 수 / 발송 푸시 수 (1보다 클수록 많이 합쳐짐)
+ */
+@Configuration
+@EnableConfigurationProperties(PushProperties.class)
+public class PushConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(PushTransport.class)
+    public LoggingPushTransport pushTransport() {
+        return new LoggingPushTransport();
+    }
+
+    @Bean
+    public PushFanoutEngine pushFanoutEngine(PushTransport transport, PushProperties properties) {
+        return new PushFanoutEngine(transport, properties);
+    }
+
+    @Bean
+    public MeterBinder pushFanoutMetrics(PushFanoutEngine engine) {
+        return registry -> {
+            for (int i = 0; i < engine.getShardCount(); i++) {
+                int shard = i;
+                Gauge.builder("push.queue.depth", engine, e -> e.getQueueDepth(shard))
+                        .tag("shard", String.valueOf(shard))
+                        .register(registry);
+            }
+            FunctionCounter.builder("push.messages", engine, PushFanoutEngine::getSubmittedMessages)
+                    .register(registry);
+            FunctionCounter.builder("push.sent", engine, PushFanoutEngine::getPushes)
+                    .register(registry);
+            FunctionCounter.builder("push.failed", engine, PushFanoutEngine::getFailedPushes)
+                    .register(registry);
+            Gauge.builder("push.coalescing.ratio", engine, PushFanoutEngine::getCoalescingRatio)
+                    .register(registry);
+        };
+    }
+}
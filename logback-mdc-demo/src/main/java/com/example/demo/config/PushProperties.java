@@ -0,0 +1,44 @@
+package com.example.demo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 푸시 알림 팬아웃 설정 (application.yml의 app.push.*)
+ *
+ * [설정 예시]
+ * app:
+ *   push:
+ *     shards: 4
+ *     queue-capacity-per-shard: 10000
+ *     coalesce-window: 50ms
+ *     max-messages-per-push: 20
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.push")
+public class PushProperties {
+
+    /**
+     * 샤드(작업 스레드) 수 - userId 해시로 샤드를 고름
+     */
+    private int shards = 4;
+
+    /**
+     * 샤드별 대기 큐 용량 (가득 차면 TaskRejectedException -> 503)
+     */
+    private int queueCapacityPerShard = 10_000;
+
+    /**
+     * 같은 사용자의 메시지를 모으는 시간 (이 시간 안에 쌓인 메시지는 푸시 1건으로 합침)
+     */
+    private Duration coalesceWindow = Duration.ofMillis(50);
+
+    /**
+     * 푸시 1건에 합칠 최대 메시지 수
+     */
+    private int maxMessagesPerPush = 20;
+}
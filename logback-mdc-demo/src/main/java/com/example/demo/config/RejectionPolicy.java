@@ -0,0 +1,38 @@
+package com.example.demo.config;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 스레드 풀 큐가 가득 찼을 때의 처리 방식
+ *
+ * [정책 비교]
+ * - CALLER_RUNS    : 작업을 제출한 스레드(요청 스레드)에서 직접 실행
+ *                    -> 요청 처리 속도가 느려지면서 자연스럽게 유입량 조절 (백프레셔)
+ * - SHED           : 작업을 거부하고 TaskRejectedException 발생
+ *                    -> AsyncRejectionHandler가 503 Service Unavailable로 응답
+ *
+ * [큐의 작업을 버리는 정책(DiscardOldestPolicy)을 두지 않는 이유]
+ * - 큐에 있는 것은 @Async/supplyAsync가 만든 CompletableFuture 작업을 TaskDecorator로 감싼 Runnable
+ *   -> 버려도 그 Future를 밖에서 완료/취소할 방법이 없어, 결과를 기다리는 요청이
+ *      MVC 비동기 타임아웃까지 오류도 메트릭도 없이 멈춤
+ * - 오래된 작업보다 새 작업을 포기하는 SHED(503 + Retry-After)로 대체
+ */
+public enum RejectionPolicy {
+
+    CALLER_RUNS {
+        @Override
+        public RejectedExecutionHandler toHandler() {
+            return new ThreadPoolExecutor.CallerRunsPolicy();
+        }
+    },
+
+    SHED {
+        @Override
+        public RejectedExecutionHandler toHandler() {
+            return new ThreadPoolExecutor.AbortPolicy();
+        }
+    };
+
+    public abstract RejectedExecutionHandler toHandler();
+}
@@ -0,0 +1,27 @@
+package com.example.demo.config;
+
+import com.example.demo.filter.RequestIdGenerator;
+import com.example.demo.filter.TimeOrderedRequestIdGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청 ID 생성기 / 요청 로깅 설정
+ *
+ * [핵심 포인트]
+ * - 기본값으로 TimeOrderedRequestIdGenerator 등록
+ * - 다른 RequestIdGenerator Bean이 있으면 그것을 우선 사용 (교체 가능)
+ * - MdcLoggingFilter가 사용하는 RequestLoggingProperties(app.request-logging.*) 등록
+ */
+@Configuration
+@EnableConfigurationProperties(RequestLoggingProperties.class)
+public class RequestIdConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(RequestIdGenerator.class)
+    public RequestIdGenerator requestIdGenerator() {
+        return new TimeOrderedRequestIdGenerator();
+    }
+}
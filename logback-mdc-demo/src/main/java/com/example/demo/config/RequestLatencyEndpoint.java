@@ -0,0 +1,68 @@
+package com.example.demo.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔드포인트별 요청 처리 시간 분포를 한 번에 조회하는 Actuator 엔드포인트
+ *
+ * [사용 방법]
+ * curl http://localhost:8080/actuator/latency
+ *
+ * [응답 예시] (단위: ms)
+ * {
+ *   "GET /api/orders/{orderId}": {"count":120,"mean":12.3,"max":48.0,"p50":10.9,"p99":41.2,"p999":47.9},
+ *   "GET UNMATCHED": {...}
+ * }
+ *
+ * [참고]
+ * - count/mean은 기동 이후 누적, max/p50/p99/p999는 최근 1분 구간 기준 (Timer의 분포 만료 시간)
+ * - 백분위수는 HdrHistogram 기반 근사값 (로그 시각 차이로 계산할 필요 없음)
+ */
+@Component
+@Endpoint(id = "latency")
+@RequiredArgsConstructor
+public class RequestLatencyEndpoint {
+
+    private final RequestLatencyMetrics metrics;
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> latencies() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        metrics.timers().forEach((route, timer) -> result.put(route, describe(timer)));
+        return result;
+    }
+
+    private Map<String, Object> describe(Timer timer) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("count", timer.count());
+        info.put("mean", round(timer.count() == 0 ? 0 : timer.totalTime(TimeUnit.MILLISECONDS) / timer.count()));
+        info.put("max", round(timer.max(TimeUnit.MILLISECONDS)));
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            info.put(label(percentile.percentile()), round(percentile.value(TimeUnit.MILLISECONDS)));
+        }
+        return info;
+    }
+
+    /**
+     * 0.5 -> p50, 0.99 -> p99, 0.999 -> p999
+     */
+    private static String label(double percentile) {
+        String digits = String.valueOf(percentile).substring(2);
+        return "p" + (digits.length() == 1 ? digits + "0" : digits);
+    }
+
+    private static double round(double millis) {
+        return Math.round(millis * 1000) / 1000.0;
+    }
+}
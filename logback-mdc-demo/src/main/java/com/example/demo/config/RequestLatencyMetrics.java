@@ -0,0 +1,94 @@
+package com.example.demo.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 엔드포인트(라우트)별 요청 처리 시간 메트릭
+ *
+ * [노출 메트릭] (tag: method=HTTP 메서드, route=매칭된 패턴)
+ * - http.request.latency : MdcLoggingFilter가 System.nanoTime으로 잰 요청 처리 시간
+ *
+ * [핵심 포인트]
+ * - route는 원본 URI가 아니라 매칭된 패턴 (/api/orders/{orderId})
+ *   -> 주문 ID마다 Timer가 생기지 않음 (카디널리티 고정)
+ *   -> 어떤 핸들러에도 매칭되지 않은 요청(404 등)은 UNMATCHED 하나로 모음
+ * - method도 표준 HTTP 메서드(HttpMethod.values())만 그대로 쓰고 나머지는 OTHER 하나로 모음
+ *   -> 임의의 메서드 이름(FOO, get 등)을 보내는 클라이언트가 Timer를 계속 늘리지 못함
+ * - p50/p99/p999는 Micrometer의 HdrHistogram 기반 분포로 계산 (요청당 기록 비용이 낮음)
+ * - Timer는 (method, route) 조합별로 한 번만 생성하여 캐시
+ *
+ * [확인 방법]
+ * curl http://localhost:8080/actuator/latency
+ * curl "http://localhost:8080/actuator/metrics/http.request.latency?tag=route:/api/orders/{orderId}"
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestLatencyMetrics {
+
+    public static final String UNMATCHED_ROUTE = "UNMATCHED";
+    public static final String OTHER_METHOD = "OTHER";
+
+    private static final Set<String> STANDARD_METHODS = Arrays.stream(HttpMethod.values())
+            .map(HttpMethod::name)
+            .collect(Collectors.toUnmodifiableSet());
+
+    private static final double[] PERCENTILES = {0.5, 0.99, 0.999};
+
+    private final MeterRegistry registry;
+
+    private final Map<String, Map<String, Timer>> timers = new ConcurrentHashMap<>();
+
+    /**
+     * 요청 1건의 처리 시간 기록
+     *
+     * @param method 요청의 HTTP 메서드 (표준 메서드가 아니면 OTHER)
+     * @param route 매칭된 패턴 (없으면 null -> UNMATCHED)
+     */
+    public void record(String method, String route, long elapsedNanos) {
+        String methodKey = normalizeMethod(method);
+        String routeKey = route == null ? UNMATCHED_ROUTE : route;
+        timers.computeIfAbsent(routeKey, r -> new ConcurrentHashMap<>())
+                .computeIfAbsent(methodKey, m -> timer(m, routeKey))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * "메서드 라우트" -> Timer (정렬됨)
+     */
+    public Map<String, Timer> timers() {
+        Map<String, Timer> result = new TreeMap<>();
+        timers.forEach((route, byMethod) ->
+                byMethod.forEach((method, timer) -> result.put(method + " " + route, timer)));
+        return result;
+    }
+
+    /**
+     * 표준 HTTP 메서드가 아니면 OTHER (대소문자 구분, 서블릿이 받은 그대로 비교)
+     */
+    static String normalizeMethod(String method) {
+        return method != null && STANDARD_METHODS.contains(method) ? method : OTHER_METHOD;
+    }
+
+    private Timer timer(String method, String route) {
+        return Timer.builder("http.request.latency")
+                .description("request latency measured by MdcLoggingFilter")
+                .tag("method", method)
+                .tag("route", route)
+                .publishPercentiles(PERCENTILES)
+                .distributionStatisticExpiry(Duration.ofMinutes(1))
+                .register(registry);
+    }
+}
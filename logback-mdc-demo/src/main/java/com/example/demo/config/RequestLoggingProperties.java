@@ -0,0 +1,45 @@
+package com.example.demo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MdcLoggingFilter 설정 (application.yml의 app.request-logging.*)
+ *
+ * [설정 예시]
+ * app:
+ *   request-logging:
+ *     exclude-patterns:
+ *       - /actuator/**
+ *       - /favicon.ico
+ *     access-log: true
+ *     echo-request-id: true
+ *
+ * [참고]
+ * - exclude-patterns에 해당하는 요청은 MDC 설정/접근 로그/테일 샘플링을 모두 건너뜀
+ * - 패턴은 기동 시 한 번 트라이로 컴파일됨 (지원 형식은 PathPatternTrie 참고)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.request-logging")
+public class RequestLoggingProperties {
+
+    /**
+     * MdcLoggingFilter를 적용하지 않을 URI 패턴 (컨텍스트 경로 제외)
+     */
+    private List<String> excludePatterns = new ArrayList<>(List.of("/actuator/**", "/favicon.ico"));
+
+    /**
+     * 요청 완료 시 메서드/URI/상태/처리 시간을 한 줄로 기록
+     */
+    private boolean accessLog = true;
+
+    /**
+     * 응답 헤더 X-Request-Id에 요청 ID를 기록
+     */
+    private boolean echoRequestId = true;
+}
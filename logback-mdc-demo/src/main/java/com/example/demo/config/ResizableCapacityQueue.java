@@ -0,0 +1,61 @@
+package com.example.demo.config;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실행 중에 용량을 변경할 수 있는 작업 큐
+ *
+ * [사용 목적]
+ * - LinkedBlockingQueue는 생성 시 용량이 고정되어, 큐 크기를 바꾸려면 재배포가 필요함
+ * - ThreadPoolExecutor는 작업 추가 시 offer()만 사용하므로 offer()에서 용량을 검사
+ *
+ * [주의]
+ * - 용량 검사와 추가가 원자적이지 않아 동시 제출 시 용량을 약간 넘을 수 있음 (상한 보장용이 아닌 튜닝용)
+ * - 용량을 줄여도 이미 들어 있는 작업은 버리지 않음 (새 작업만 거부)
+ */
+public class ResizableCapacityQueue<E> extends LinkedBlockingQueue<E> {
+
+    private volatile int capacity;
+
+    public ResizableCapacityQueue(int capacity) {
+        super(Integer.MAX_VALUE);
+        this.capacity = checkCapacity(capacity);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = checkCapacity(capacity);
+    }
+
+    private static int checkCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must be >= 0: " + capacity);
+        }
+        return capacity;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        if (size() >= capacity) {
+            return false;
+        }
+        return super.offer(e);
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        if (size() >= capacity) {
+            return false;
+        }
+        return super.offer(e, timeout, unit);
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Math.max(0, capacity - size());
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.demo.config;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 실행 중 크기/큐 용량/거부 정책을 변경할 수 있는 ThreadPoolTaskExecutor
+ *
+ * [기존 방식의 문제점]
+ * - ThreadPoolTaskExecutor의 큐 용량은 initialize() 이후 변경 불가
+ * - 거부 정책도 기동 시 한 번만 설정됨
+ *
+ * [동작 원리]
+ * - createQueue()를 재정의하여 용량 변경이 가능한 ResizableCapacityQueue 사용
+ * - resize()에서 core/max 크기는 ThreadPoolExecutor에 즉시 반영
+ *   (core > max 가 되지 않도록 늘릴 때는 max 먼저, 줄일 때는 core 먼저 변경)
+ */
+public class ResizableThreadPoolTaskExecutor extends ThreadPoolTaskExecutor {
+
+    private ResizableCapacityQueue<Runnable> queue;
+    private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+
+    public static ResizableThreadPoolTaskExecutor of(AsyncProperties.Pool pool, String threadNamePrefix) {
+        ResizableThreadPoolTaskExecutor executor = new ResizableThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pool.getCorePoolSize());
+        executor.setMaxPoolSize(pool.getMaxPoolSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setRejectionPolicy(pool.getRejectionPolicy());
+        executor.setThreadNamePrefix(threadNamePrefix);
+        return executor;
+    }
+
+    @Override
+    protected BlockingQueue<Runnable> createQueue(int queueCapacity) {
+        this.queue = new ResizableCapacityQueue<>(queueCapacity);
+        return queue;
+    }
+
+    /**
+     * 풀 크기와 큐 용량 변경 (null인 값은 유지)
+     * - 값을 모두 검증한 뒤 반영하므로 잘못된 값이 있으면 아무것도 바뀌지 않음
+     *
+     * @throws IllegalArgumentException core < 0, max <= 0, core > max 또는 큐 용량 < 0
+     */
+    public synchronized void resize(Integer corePoolSize, Integer maxPoolSize, Integer queueCapacity) {
+        int newCore = corePoolSize != null ? corePoolSize : getCorePoolSize();
+        int newMax = maxPoolSize != null ? maxPoolSize : getMaxPoolSize();
+        if (newCore < 0 || newMax <= 0 || newCore > newMax) {
+            throw new IllegalArgumentException(
+                    "Invalid pool size: corePoolSize=" + newCore + ", maxPoolSize=" + newMax);
+        }
+        if (queueCapacity != null && queueCapacity < 0) {
+            throw new IllegalArgumentException("Invalid queue capacity: " + queueCapacity);
+        }
+
+        if (newMax >= getMaxPoolSize()) {
+            setMaxPoolSize(newMax);
+            setCorePoolSize(newCore);
+        } else {
+            setCorePoolSize(newCore);
+            setMaxPoolSize(newMax);
+        }
+
+        if (queueCapacity != null) {
+            setQueueCapacity(queueCapacity);
+            if (queue != null) {
+                queue.setCapacity(queueCapacity);
+            }
+        }
+    }
+
+    public RejectionPolicy getRejectionPolicy() {
+        return rejectionPolicy;
+    }
+
+    public void setRejectionPolicy(RejectionPolicy rejectionPolicy) {
+        this.rejectionPolicy = rejectionPolicy;
+        setRejectedExecutionHandler(rejectionPolicy.toHandler());
+        if (queue != null) {
+            // 초기화 이후에는 동작 중인 ThreadPoolExecutor에 바로 반영
+            ThreadPoolExecutor threadPoolExecutor = getThreadPoolExecutor();
+            threadPoolExecutor.setRejectedExecutionHandler(rejectionPolicy.toHandler());
+        }
+    }
+
+    public int getQueueRemainingCapacity() {
+        return queue == null ? 0 : queue.remainingCapacity();
+    }
+}
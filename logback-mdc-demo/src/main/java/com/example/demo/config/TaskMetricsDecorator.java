@@ -0,0 +1,64 @@
+package com.example.demo.config;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 작업의 큐 대기 시간과 실행 시간을 측정하는 TaskDecorator
+ *
+ * [동작 원리]
+ * 1. decorate() 호출 시점(작업 제출 시점)의 nanoTime 기록
+ * 2. 실행 시작 시 대기 시간 계산, 실행 완료 시 실행 시간 계산
+ * 3. 실행 중 AsyncTaskOriginAspect가 @Async 메서드 이름을 origin으로 기록
+ * 4. 완료 후 AsyncTaskMetrics에 (executor, origin)별로 기록
+ *
+ * [MDC 연동]
+ * - 측정 코드는 delegate(MdcTaskDecorator) 안쪽에서 실행되므로
+ *   느린 작업 로그에 요청의 requestId/userId가 함께 출력됨
+ */
+public class TaskMetricsDecorator implements TaskDecorator {
+
+    /**
+     * @Async 메서드가 아닌 작업(직접 execute/submit)의 origin
+     */
+    public static final String DIRECT_ORIGIN = "direct";
+
+    private static final ThreadLocal<String> CURRENT_ORIGIN = new ThreadLocal<>();
+
+    private final String executorName;
+    private final AsyncTaskMetrics metrics;
+    private final TaskDecorator delegate;
+
+    public TaskMetricsDecorator(String executorName, AsyncTaskMetrics metrics, TaskDecorator delegate) {
+        this.executorName = executorName;
+        this.metrics = metrics;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        long enqueuedAt = System.nanoTime();
+
+        Runnable measured = () -> {
+            long startedAt = System.nanoTime();
+            CURRENT_ORIGIN.set(DIRECT_ORIGIN);
+            try {
+                runnable.run();
+            } finally {
+                long finishedAt = System.nanoTime();
+                String origin = CURRENT_ORIGIN.get();
+                CURRENT_ORIGIN.remove();
+                metrics.record(executorName, origin, startedAt - enqueuedAt, finishedAt - startedAt);
+            }
+        };
+        return delegate.decorate(measured);
+    }
+
+    /**
+     * 현재 실행 중인 작업의 origin 기록 (측정 중인 작업이 없으면 무시)
+     */
+    static void markOrigin(String origin) {
+        if (CURRENT_ORIGIN.get() != null) {
+            CURRENT_ORIGIN.set(origin);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.demo.controller;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 스레드 풀 포화로 작업이 거부되었을 때 503으로 응답
+ *
+ * [사용 목적]
+ * - rejection-policy: shed 설정 시 큐가 가득 차면 TaskRejectedException 발생
+ * - 500 대신 503 + Retry-After로 응답하여 클라이언트가 재시도할 수 있게 함
+ * - 로그에는 MDC(requestId 등)가 함께 출력되므로 어떤 요청이 거부되었는지 추적 가능
+ */
+@Slf4j
+@RestControllerAdvice
+public class AsyncRejectionHandler {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<String> handleTaskRejected(TaskRejectedException e) {
+        log.warn("[AsyncRejectionHandler] 스레드 풀 포화로 작업 거부 - {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body("Server is busy. Please retry later.");
+    }
+}
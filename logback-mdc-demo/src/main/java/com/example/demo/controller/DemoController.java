@@ -1,13 +1,21 @@
 package com.example.demo.controller;
 
+import com.example.demo.config.EmailProperties;
+import com.example.demo.config.OrderBatchProperties;
 import com.example.demo.service.AsyncDemoService;
 import com.example.demo.service.OrderService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
@@ -24,15 +32,23 @@ import java.util.concurrent.CompletableFuture;
  * 3. 주문 처리 (동기):
  *    curl http://localhost:8080/api/orders/12345
  *
- * 4. 비동기 처리 (MDC 전파 문제 확인):
+ * 4. 비동기 처리 (supplyAsync + orderTaskExecutor):
  *    curl http://localhost:8080/api/orders/12345/async
  *
  * 5. 비동기 처리 (MDC 전파 해결):
  *    curl http://localhost:8080/api/orders/12345/async-mdc
  *
- * 6. @Async MDC 전파 비교:
+ * 6. 이메일 발송 MDC 전파 비교 (EmailDispatcher, 스레드 점유 없음):
  *    curl http://localhost:8080/api/email/test@example.com/without-mdc
  *    curl http://localhost:8080/api/email/test@example.com/with-mdc
+ *
+ * 7. 일괄 주문 처리 (끝난 주문부터 한 줄씩 응답):
+ *    curl -N -X POST http://localhost:8080/api/orders/batch \
+ *         -H "Content-Type: application/json" -d '["A-1","A-2","A-3"]'
+ *
+ * 8. 이메일 일괄 발송 (발송이 끝난 수신자부터 한 줄씩 응답):
+ *    curl -N -X POST http://localhost:8080/api/email/batch \
+ *         -H "Content-Type: application/json" -d '["a@example.com","b@example.com"]'
  */
 @Slf4j
 @RestController
@@ -42,6 +58,8 @@ public class DemoController {
 
     private final OrderService orderService;
     private final AsyncDemoService asyncDemoService;
+    private final OrderBatchProperties orderBatchProperties;
+    private final EmailProperties emailProperties;
 
     /**
      * 기본 엔드포인트 - MDC 동작 확인
@@ -104,11 +122,12 @@ public class DemoController {
     }
 
     /**
-     * 비동기 주문 처리 - MDC 전파 안됨 (문제 상황)
+     * 비동기 주문 처리 - supplyAsync 직접 사용
+     * (orderTaskExecutor의 MdcTaskDecorator로 단일 단계는 MDC 전파됨)
      */
     @GetMapping("/orders/{orderId}/async")
     public CompletableFuture<String> processOrderAsync(@PathVariable String orderId) {
-        log.info("[Controller] 비동기 주문 처리 요청 (MDC 전파 X) - orderId: {}", orderId);
+        log.info("[Controller] 비동기 주문 처리 요청 (supplyAsync) - orderId: {}", orderId);
         return orderService.processOrderAsync(orderId);
     }
 
@@ -121,6 +140,28 @@ public class DemoController {
         return orderService.processOrderAsyncWithMdc(orderId);
     }
 
+    /**
+     * 일괄 주문 처리 - 끝난 주문부터 JSON 한 줄(OrderResult)씩 응답 (application/x-ndjson)
+     *
+     * [기존 방식의 문제점]
+     * - 단건 API(/orders/{orderId})만 있어 N건이면 HTTP 요청도 N번
+     *
+     * [핵심 포인트]
+     * - 주문은 OrderService.processBatchOrder()가 가상 스레드에서 처리
+     * - NdjsonStream이 동시에 최대 parallelism건만 진행하고, 한 줄을 쓴 뒤에야 다음 주문을 시작
+     *   -> 클라이언트가 느리면 주문 처리도 늦춰져 서버에 결과가 쌓이지 않음
+     * - 주문별 로그에는 이 요청의 requestId와 각 주문의 orderId가 MDC로 함께 기록됨
+     * - 시간 초과/연결 끊김 시 아직 시작하지 않은 주문은 처리하지 않음
+     */
+    @PostMapping("/orders/batch")
+    public ResponseEntity<ResponseBodyEmitter> processOrders(@RequestBody List<String> orderIds) {
+        requireBatchSize(orderIds, orderBatchProperties.getMaxOrders());
+        log.info("[Controller] 일괄 주문 처리 요청 - {}건", orderIds.size());
+
+        return new NdjsonStream<>(orderIds, orderService::processBatchOrder,
+                orderBatchProperties.getParallelism(), orderBatchProperties.getTimeout()).start();
+    }
+
     /**
      * MDC 수동 설정 예시
      * - 특정 상황에서 MDC 값을 수동으로 추가/변경할 수 있음
@@ -141,7 +182,7 @@ public class DemoController {
     // =====================================================
 
     /**
-     * @Async 기본 사용 - MDC 전파 안됨
+     * 빈 MDC로 발송 요청 - 완료 로그에 MDC 전파 안됨
      */
     @GetMapping("/email/{email}/without-mdc")
     public CompletableFuture<String> sendEmailWithoutMdc(@PathVariable String email) {
@@ -150,7 +191,7 @@ public class DemoController {
     }
 
     /**
-     * @Async + mdcTaskExecutor 사용 - MDC 전파됨
+     * 요청 MDC를 캡처하여 발송 요청 - 완료 로그에 MDC 전파됨
      */
     @GetMapping("/email/{email}/with-mdc")
     public CompletableFuture<String> sendEmailWithMdc(@PathVariable String email) {
@@ -158,6 +199,24 @@ public class DemoController {
         return asyncDemoService.sendEmailWithMdc(email);
     }
 
+    /**
+     * 여러 수신자에게 이메일 발송 - 발송이 끝난 수신자부터 JSON 한 줄씩 응답 (application/x-ndjson)
+     * - 동시에 최대 max-recipients-per-send명만 발송 요청 (EmailDispatcher가 한 번에 묶어 보낼 수 있는 만큼)
+     * - 발송 1건은 send-timeout 안에 끝나므로 전체 시간 제한은 (묶음 수 + 1) x send-timeout
+     */
+    @PostMapping("/email/batch")
+    public ResponseEntity<ResponseBodyEmitter> sendEmails(@RequestBody List<String> emails) {
+        requireBatchSize(emails, emailProperties.getQueueCapacity());
+        log.info("[Controller] 이메일 일괄 발송 요청 - {}명", emails.size());
+
+        int window = emailProperties.getMaxRecipientsPerSend();
+        Duration timeout = emailProperties.getSendTimeout().multipliedBy(emails.size() / Math.max(1, window) + 1);
+        return new NdjsonStream<>(emails,
+                email -> asyncDemoService.sendEmailWithMdc(email)
+                        .thenApply(result -> Map.of("to", email, "result", result)),
+                window, timeout).start();
+    }
+
     /**
      * 알림 처리 - MDC 전파 + 여러 단계 호출
      */
@@ -168,4 +227,10 @@ public class DemoController {
         log.info("[Controller] 알림 처리 요청 - userId: {}", userId);
         return asyncDemoService.processNotification(userId, message);
     }
+
+    private void requireBatchSize(List<String> items, int max) {
+        if (items.isEmpty() || items.size() > max) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "request must contain 1 to " + max + " entries");
+        }
+    }
 }
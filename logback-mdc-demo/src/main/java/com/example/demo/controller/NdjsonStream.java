@@ -0,0 +1,168 @@
+package com.example.demo.controller;
+
+import com.example.demo.mdc.MdcSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 항목마다 비동기 작업을 실행하고 끝난 순서대로 NDJSON 한 줄씩 응답하는 스트림
+ *
+ * [기존 방식의 문제점]
+ * - CompletableFuture<String> 하나로 응답 -> 가장 느린 항목이 끝나야 클라이언트가 결과를 받음
+ * - 작업 스레드마다 ResponseBodyEmitter.send()를 바로 호출하면 흐름 제어가 없음
+ *   -> 클라이언트가 느릴 때 작업 스레드가 쓰기에 막히거나, 모든 항목을 한꺼번에 시작해 결과가 쌓임
+ *
+ * [동작 원리] (pull 방식 흐름 제어)
+ * 1. 응답을 쓰는 스레드 1개(가상 스레드)가 항목 작업을 직접 시작 - 동시에 최대 window개까지만
+ *    (window = 실행 중 + 완료되었지만 아직 쓰지 않은 항목 수)
+ * 2. 작업이 끝나면 결과를 완료 큐에 넣기만 함 (작업/완료 스레드는 응답 쓰기에 막히지 않음)
+ * 3. 응답 스레드는 결과를 한 줄 쓴 뒤에야 다음 항목을 시작
+ *    -> 클라이언트가 느리면 쓰기가 막히고 새 작업도 시작되지 않음 (대기 중인 결과 <= window줄)
+ *    - JSON과 줄바꿈은 send(Set) 한 번으로 씀 -> 줄마다 flush 1회 (send를 두 번 부르면 2회)
+ *
+ * [종료]
+ * - 시간 초과/연결 끊김 시 실행 중인 작업을 cancel()하고 남은 항목은 시작하지 않음
+ * - 작업이 예외로 끝나면 {"item": ..., "error": ...} 줄을 쓰고 나머지는 계속 처리
+ *
+ * [MDC]
+ * - 응답 스레드는 생성 시점(요청 스레드)의 MDC를 복원한 채 실행
+ *   -> 작업 시작 시 MdcSnapshot.capture()를 쓰는 서비스에도 요청의 requestId가 전파됨
+ *
+ * [사용 예시]
+ * return new NdjsonStream<>(orderIds, orderService::processBatchOrder, 64, Duration.ofMinutes(5)).start();
+ */
+@Slf4j
+public final class NdjsonStream<T> {
+
+    private static final ThreadFactory WRITER_THREADS = Thread.ofVirtual().name("ndjson-writer-", 0).factory();
+
+    // 시간 초과/연결 끊김을 응답 스레드에 알리는 표식
+    private static final Object CLOSED = new Object();
+
+    private static final DataWithMediaType NEWLINE = new DataWithMediaType("\n", MediaType.TEXT_PLAIN);
+
+    private final List<T> items;
+    private final Function<T, CompletableFuture<?>> task;
+    private final int window;
+    private final Duration timeout;
+    private final MdcSnapshot context = MdcSnapshot.capture();
+    private final BlockingQueue<Object> completed = new LinkedBlockingQueue<>();
+
+    /**
+     * @param task    항목 1건의 작업을 시작하고 결과 Future 반환 (결과 객체가 JSON 한 줄이 됨)
+     * @param window  동시에 진행할 최대 항목 수 (실행 중 + 쓰기 대기)
+     * @param timeout 전체 최대 처리 시간
+     */
+    public NdjsonStream(List<T> items, Function<T, CompletableFuture<?>> task, int window, Duration timeout) {
+        this.items = items;
+        this.task = task;
+        this.window = Math.max(1, window);
+        this.timeout = timeout;
+    }
+
+    /**
+     * 응답 스레드를 시작하고 application/x-ndjson 응답 반환
+     */
+    public ResponseEntity<ResponseBodyEmitter> start() {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeout.toMillis());
+        emitter.onTimeout(() -> completed.add(CLOSED));
+        emitter.onError(error -> completed.add(CLOSED));
+        WRITER_THREADS.newThread(context.wrap(() -> write(emitter))).start();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(emitter);
+    }
+
+    private void write(ResponseBodyEmitter emitter) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+        int next = 0;
+        int pending = 0;
+        int written = 0;
+
+        try {
+            while (next < items.size() || pending > 0) {
+                while (pending < window && next < items.size()) {
+                    inFlight.add(startItem(items.get(next++)));
+                    pending++;
+                }
+                inFlight.removeIf(CompletableFuture::isDone);
+
+                Object line = completed.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (line == null || line == CLOSED) {
+                    log.warn("[NdjsonStream] 시간 초과 또는 연결 끊김 - {}/{}건 응답 후 중단", written, items.size());
+                    break;
+                }
+                emitter.send(ndjsonLine(line));
+                pending--;
+                written++;
+            }
+            emitter.complete();
+        } catch (IOException e) {
+            log.info("[NdjsonStream] 응답 쓰기 실패 - {}/{}건 응답 후 중단: {}", written, items.size(), e.toString());
+            emitter.completeWithError(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.completeWithError(e);
+        } catch (RuntimeException e) {
+            // 직렬화할 수 없는 결과(HttpMessageNotWritableException), 이미 끝난 응답에 쓰기(IllegalStateException) 등
+            // -> 응답을 끝내지 않으면 클라이언트가 시간 초과까지 대기
+            log.warn("[NdjsonStream] 응답 쓰기 실패 - {}/{}건 응답 후 중단", written, items.size(), e);
+            emitter.completeWithError(e);
+        } finally {
+            inFlight.forEach(future -> future.cancel(false));
+        }
+    }
+
+    private CompletableFuture<?> startItem(T item) {
+        CompletableFuture<?> future;
+        try {
+            future = task.apply(item);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((result, error) -> completed.add(error != null
+                ? errorLine(item, error)
+                : Objects.requireNonNullElse(result, Map.of("item", String.valueOf(item)))));
+        return future;
+    }
+
+    /**
+     * JSON 한 줄 + 줄바꿈 (순서 유지)
+     */
+    private static Set<DataWithMediaType> ndjsonLine(Object line) {
+        Set<DataWithMediaType> parts = new LinkedHashSet<>(4);
+        parts.add(new DataWithMediaType(line, MediaType.APPLICATION_JSON));
+        parts.add(NEWLINE);
+        return parts;
+    }
+
+    private Map<String, String> errorLine(T item, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        Map<String, String> line = new LinkedHashMap<>();
+        line.put("item", String.valueOf(item));
+        line.put("error", cause.toString());
+        return line;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.demo.email;
+
+import java.util.List;
+
+/**
+ * 한 번의 발송(SMTP 트랜잭션)으로 보내는 이메일 묶음
+ * - 제목/본문이 같은 이메일의 수신자를 모아 RCPT TO 여러 개로 한 번에 발송
+ */
+public record EmailBatch(String subject, String body, List<String> recipients) {
+}
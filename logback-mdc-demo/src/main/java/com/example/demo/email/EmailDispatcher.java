@@ -0,0 +1,262 @@
+package com.example.demo.email;
+
+import com.example.demo.config.EmailProperties;
+import com.example.demo.mdc.MdcSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 스레드를 점유하지 않는 이메일 발송 파이프라인
+ *
+ * [기존 방식의 문제점]
+ * - @Async 메서드 안에서 Thread.sleep(100)으로 발송 -> 이메일 1건이 풀 스레드 1개를 100ms 점유
+ * - 풀 크기(기본 10)가 곧 동시 발송 수 상한, 그 이상은 큐에서 대기
+ *
+ * [동작 원리]
+ * 1. send(): 이메일을 큐에 넣고 바로 Future 반환 (호출 스레드의 MDC 스냅샷도 함께 보관)
+ * 2. 발송 스레드 1개가 큐에서 이메일을 꺼내 제목/본문이 같은 것끼리 수신자를 묶음
+ *    - 첫 이메일 이후 batchLinger 동안 더 기다려 묶음을 키움 (최대 maxRecipientsPerSend명)
+ * 3. Semaphore로 동시 발송 수를 maxConcurrentSends로 제한하면서 EmailTransport.send() 호출
+ *    - send()는 바로 반환하므로 발송 스레드는 다음 묶음을 계속 처리 (수천 건 동시 진행 가능)
+ * 4. 발송이 끝나면 각 이메일의 Future를 완료
+ *    - 완료 시점에 요청 MDC를 복원하므로 thenApply 등 후속 로그에도 requestId가 유지됨
+ *
+ * [백프레셔]
+ * - 큐가 가득 차면 send()가 TaskRejectedException (AsyncRejectionHandler가 503으로 응답)
+ * - 동시 발송이 상한이면 발송 스레드가 대기 -> 큐가 차오름
+ */
+@Slf4j
+public class EmailDispatcher implements AutoCloseable {
+
+    private final EmailTransport transport;
+    private final int maxRecipientsPerSend;
+    private final int maxConcurrentSends;
+    private final long batchLingerNanos;
+    private final long sendTimeoutNanos;
+
+    private final BlockingQueue<PendingEmail> queue;
+    private final Semaphore sendPermits;
+    private final Thread dispatcherThread;
+    private volatile boolean running = true;
+
+    // 메트릭
+    private final LongAdder sentEmails = new LongAdder();
+    private final LongAdder failedEmails = new LongAdder();
+    private final LongAdder sends = new LongAdder();
+
+    public EmailDispatcher(EmailTransport transport, EmailProperties properties) {
+        this.transport = transport;
+        this.maxRecipientsPerSend = Math.max(1, properties.getMaxRecipientsPerSend());
+        this.maxConcurrentSends = Math.max(1, properties.getMaxConcurrentSends());
+        this.batchLingerNanos = properties.getBatchLinger().toNanos();
+        this.sendTimeoutNanos = properties.getSendTimeout().toNanos();
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.sendPermits = new Semaphore(maxConcurrentSends);
+
+        this.dispatcherThread = new Thread(this::dispatchLoop, "email-dispatcher");
+        this.dispatcherThread.setDaemon(true);
+        this.dispatcherThread.start();
+    }
+
+    /**
+     * 이메일 발송 요청 (현재 스레드의 MDC를 완료 시점에 복원)
+     *
+     * @return 발송이 끝나면 완료되는 Future
+     * @throws TaskRejectedException 큐가 가득 찼거나 종료 중인 경우
+     */
+    public CompletableFuture<Void> send(EmailMessage message) {
+        return send(message, MdcSnapshot.capture());
+    }
+
+    /**
+     * 이메일 발송 요청 (완료 시점에 지정한 MDC 스냅샷을 복원)
+     */
+    public CompletableFuture<Void> send(EmailMessage message, MdcSnapshot context) {
+        PendingEmail pending = new PendingEmail(message, context, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            throw new TaskRejectedException("Email queue is full or shutting down (capacity "
+                    + (queue.size() + queue.remainingCapacity()) + ")");
+        }
+        return pending.future;
+    }
+
+    // ========================================
+    // 발송 스레드
+    // ========================================
+
+    private void dispatchLoop() {
+        List<PendingEmail> drained = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingEmail first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                drained.add(first);
+                linger(drained);
+                for (List<PendingEmail> group : group(drained)) {
+                    dispatch(group);
+                }
+            } catch (InterruptedException e) {
+                // 꺼내 둔 이메일은 큐에도 없으므로 여기서 완료하지 않으면 호출자가 계속 대기
+                fail(drained, e);
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("[EmailDispatcher] 발송 처리 중 오류", e);
+                fail(drained, e);
+            } finally {
+                drained.clear();
+            }
+        }
+    }
+
+    /**
+     * batchLinger 동안 이메일을 더 모음 (이미 쌓여 있으면 기다리지 않음)
+     */
+    private void linger(List<PendingEmail> drained) throws InterruptedException {
+        queue.drainTo(drained, maxRecipientsPerSend - drained.size());
+        long deadline = System.nanoTime() + batchLingerNanos;
+        while (drained.size() < maxRecipientsPerSend && running) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            PendingEmail next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            drained.add(next);
+            queue.drainTo(drained, maxRecipientsPerSend - drained.size());
+        }
+    }
+
+    /**
+     * 제목/본문이 같은 이메일끼리 묶음 (도착 순서 유지, 묶음당 최대 maxRecipientsPerSend명)
+     */
+    private List<List<PendingEmail>> group(List<PendingEmail> drained) {
+        Map<List<String>, List<PendingEmail>> byContent = new LinkedHashMap<>();
+        for (PendingEmail pending : drained) {
+            byContent.computeIfAbsent(List.of(pending.message.subject(), pending.message.body()),
+                    k -> new ArrayList<>()).add(pending);
+        }
+        List<List<PendingEmail>> groups = new ArrayList<>();
+        for (List<PendingEmail> sameContent : byContent.values()) {
+            for (int i = 0; i < sameContent.size(); i += maxRecipientsPerSend) {
+                groups.add(sameContent.subList(i, Math.min(i + maxRecipientsPerSend, sameContent.size())));
+            }
+        }
+        return groups;
+    }
+
+    private void dispatch(List<PendingEmail> group) throws InterruptedException {
+        List<PendingEmail> emails = List.copyOf(group);
+        EmailMessage first = emails.get(0).message;
+        List<String> recipients = emails.stream().map(p -> p.message.to()).toList();
+        EmailBatch batch = new EmailBatch(first.subject(), first.body(), recipients);
+
+        // 동시 발송 수 제한 (상한이면 여기서 대기)
+        sendPermits.acquire();
+        sends.increment();
+        CompletableFuture<Void> delivery;
+        try {
+            delivery = transport.send(batch).orTimeout(sendTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (RuntimeException e) {
+            sendPermits.release();
+            fail(emails, e);
+            return;
+        }
+        delivery.whenComplete((ignored, error) -> {
+            sendPermits.release();
+            if (error == null) {
+                complete(emails);
+            } else {
+                fail(emails, error);
+            }
+        });
+    }
+
+    private void complete(List<PendingEmail> emails) {
+        sentEmails.add(emails.size());
+        for (PendingEmail pending : emails) {
+            // 후속 작업(thenApply 등)이 이 스레드에서 실행되므로 요청 MDC를 복원한 채 완료
+            try (MdcSnapshot.Scope ignored = pending.context.install()) {
+                pending.future.complete(null);
+            }
+        }
+    }
+
+    private void fail(List<PendingEmail> emails, Throwable error) {
+        for (PendingEmail pending : emails) {
+            if (pending.future.isDone()) {
+                continue;
+            }
+            failedEmails.increment();
+            try (MdcSnapshot.Scope ignored = pending.context.install()) {
+                log.warn("[EmailDispatcher] 이메일 발송 실패 - to: {}, error: {}", pending.message.to(), error.toString());
+                pending.future.completeExceptionally(error);
+            }
+        }
+    }
+
+    // ========================================
+    // 종료
+    // ========================================
+
+    /**
+     * 새 요청을 받지 않고, 큐에 남은 이메일과 진행 중인 발송이 끝날 때까지 대기
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            dispatcherThread.join(TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos));
+            if (!sendPermits.tryAcquire(maxConcurrentSends, sendTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                log.warn("[EmailDispatcher] 종료 시간 초과 - 진행 중인 발송: {}", getInFlightSends());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<PendingEmail> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        fail(remaining, new TaskRejectedException("Email dispatcher stopped"));
+    }
+
+    // ========================================
+    // 메트릭
+    // ========================================
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public int getInFlightSends() {
+        return maxConcurrentSends - sendPermits.availablePermits();
+    }
+
+    public long getSentEmails() {
+        return sentEmails.sum();
+    }
+
+    public long getFailedEmails() {
+        return failedEmails.sum();
+    }
+
+    public long getSends() {
+        return sends.sum();
+    }
+
+    private record PendingEmail(EmailMessage message, MdcSnapshot context, CompletableFuture<Void> future) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.demo.email;
+
+/**
+ * 발송할 이메일 1건 (수신자 1명)
+ */
+public record EmailMessage(String to, String subject, String body) {
+}
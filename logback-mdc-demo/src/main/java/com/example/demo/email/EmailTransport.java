@@ -0,0 +1,15 @@
+package com.example.demo.email;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 이메일 발송 수단 (SMTP 클라이언트, 외부 메일 API 등)
+ *
+ * [구현 규칙]
+ * - send()는 호출 스레드를 막지 않고 바로 반환해야 함 (EmailDispatcher 스레드 하나가 모든 발송을 구동)
+ * - 발송이 끝나면(수신 서버가 수락하면) Future를 완료, 실패하면 예외로 완료
+ */
+public interface EmailTransport {
+
+    CompletableFuture<Void> send(EmailBatch batch);
+}
@@ -0,0 +1,89 @@
+package com.example.demo.email;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로컬 개발/테스트용 가짜 SMTP 발송 수단
+ *
+ * [동작 원리]
+ * - 실제로 메일을 보내지 않고, 설정한 지연(latency) 후 Future를 완료
+ * - 지연은 스케줄러로 처리하므로 발송 중에도 스레드를 점유하지 않음
+ *   (기존 Thread.sleep(100) 시뮬레이션을 대체)
+ *
+ * [테스트 지원]
+ * - getSentBatches()/getSentRecipients(): 누적 발송 수
+ * - getRecentBatches(): 최근 발송한 묶음 (최대 RECENT_LIMIT개)
+ */
+@Slf4j
+public class FakeSmtpTransport implements EmailTransport, AutoCloseable {
+
+    static final int RECENT_LIMIT = 100;
+
+    private final Duration latency;
+    private final ScheduledExecutorService scheduler;
+
+    private final LongAdder sentBatches = new LongAdder();
+    private final LongAdder sentRecipients = new LongAdder();
+    private final Deque<EmailBatch> recentBatches = new ArrayDeque<>();
+
+    public FakeSmtpTransport(Duration latency) {
+        this.latency = latency;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fake-smtp");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> send(EmailBatch batch) {
+        CompletableFuture<Void> delivered = new CompletableFuture<>();
+        scheduler.schedule(() -> {
+            record(batch);
+            log.debug("[FakeSmtp] 발송 완료 - subject: {}, recipients: {}", batch.subject(), batch.recipients().size());
+            delivered.complete(null);
+        }, latency.toNanos(), TimeUnit.NANOSECONDS);
+        return delivered;
+    }
+
+    private void record(EmailBatch batch) {
+        sentBatches.increment();
+        sentRecipients.add(batch.recipients().size());
+        synchronized (recentBatches) {
+            if (recentBatches.size() == RECENT_LIMIT) {
+                recentBatches.removeFirst();
+            }
+            recentBatches.addLast(batch);
+        }
+    }
+
+    public long getSentBatches() {
+        return sentBatches.sum();
+    }
+
+    public long getSentRecipients() {
+        return sentRecipients.sum();
+    }
+
+    public List<EmailBatch> getRecentBatches() {
+        synchronized (recentBatches) {
+            return new ArrayList<>(recentBatches);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+    }
+}
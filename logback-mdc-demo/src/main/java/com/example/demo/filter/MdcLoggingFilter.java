@@ -1,5 +1,12 @@
 package com.example.demo.filter;
 
+import com.example.demo.config.RequestLatencyMetrics;
+import com.example.demo.config.RequestLoggingProperties;
+import com.example.demo.logging.RequestLogBuffer;
+import com.example.demo.logging.TailSamplingTurboFilter;
+import com.example.demo.mdc.MdcSnapshot;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,9 +17,11 @@ import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.io.IOException;
-import java.util.UUID;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * MDC (Mapped Diagnostic Context) 설정 필터
@@ -26,6 +35,24 @@ import java.util.UUID;
  * - 분산 시스템에서 요청 추적 (Distributed Tracing)
  * - 로그 분석 시 특정 요청의 전체 흐름 파악
  * - 문제 발생 시 관련 로그만 필터링하여 조회
+ *
+ * [요청당 비용 줄이기]
+ * - 헬스 체크 등 제외 패턴(app.request-logging.exclude-patterns)에 해당하는 요청은
+ *   shouldNotFilter()에서 트라이 조회 한 번으로 건너뜀 (MDC/로그/헤더 설정 없음)
+ * - MDC는 미리 만든 Map으로 한 번에 설정 (키마다 MDC.put 하지 않음)
+ *   -> 같은 Map을 요청 스냅샷으로도 공유하므로 캡처 복사도 없음
+ * - 시작/완료 로그 두 줄 대신 처리 시간을 포함한 접근 로그 한 줄만 기록
+ *
+ * [처리 시간 측정]
+ * - System.nanoTime으로 잰 처리 시간을 매칭된 라우트(/api/orders/{orderId})별 분포로 기록
+ * - p50/p99/p999는 /actuator/latency 로 조회 (RequestLatencyMetrics)
+ *
+ * [비동기 요청 (CompletableFuture 반환 등)]
+ * - 컨트롤러가 비동기 처리를 시작하면 요청 스레드는 응답 전에 먼저 반환됨
+ *   -> 이 시점에는 상태 코드/처리 시간이 확정되지 않았으므로 완료 처리를 하지 않음
+ * - 대신 AsyncListener를 등록해 비동기 처리가 실제로 끝났을 때(onComplete)
+ *   요청 MDC를 복원한 상태로 처리 시간 기록, 접근 로그, 테일 샘플링 완료를 수행
+ * - 결과를 응답에 쓰는 ASYNC 디스패치에서도 요청 MDC를 복원 (새 요청 ID를 만들지 않음)
  */
 @Slf4j
 @Component
@@ -36,11 +63,53 @@ public class MdcLoggingFilter extends OncePerRequestFilter {
     public static final String REQUEST_ID = "requestId";
     public static final String USER_ID = "userId";
 
+    private final RequestIdGenerator requestIdGenerator;
+    private final RequestLatencyMetrics latencyMetrics;
+    private final PathPatternTrie excludePatterns;
+    private final boolean accessLog;
+    private final boolean echoRequestId;
+
+    public MdcLoggingFilter(RequestIdGenerator requestIdGenerator,
+                            RequestLatencyMetrics latencyMetrics,
+                            RequestLoggingProperties properties) {
+        this.requestIdGenerator = requestIdGenerator;
+        this.latencyMetrics = latencyMetrics;
+        // 제외 패턴은 여기서 한 번만 컴파일
+        this.excludePatterns = PathPatternTrie.compile(properties.getExcludePatterns());
+        this.accessLog = properties.isAccessLog();
+        this.echoRequestId = properties.isEchoRequestId();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (excludePatterns.isEmpty()) {
+            return false;
+        }
+        // 컨텍스트 경로는 잘라내지 않고 건너뛰어 비교 (substring 할당 없음)
+        return excludePatterns.matches(request.getRequestURI(), request.getContextPath().length());
+    }
+
+    /**
+     * 비동기 결과를 응답에 쓰는 ASYNC 디스패치에도 필터 적용 (요청 MDC 복원용)
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
+        if (isAsyncDispatch(request)) {
+            doFilterAsyncDispatch(request, response, filterChain);
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        RequestLogBuffer tailBuffer = null;
+        boolean failed = false;
         try {
             // ========================================
             // 1. MDC에 컨텍스트 정보 설정
@@ -52,7 +121,6 @@ public class MdcLoggingFilter extends OncePerRequestFilter {
             if (requestId == null || requestId.isEmpty()) {
                 requestId = generateRequestId();
             }
-            MDC.put(REQUEST_ID, requestId);
 
             // 사용자 ID 설정 (실제로는 인증 정보에서 가져옴)
             // 예시: SecurityContextHolder에서 가져오기
@@ -60,30 +128,49 @@ public class MdcLoggingFilter extends OncePerRequestFilter {
             if (userId == null || userId.isEmpty()) {
                 userId = "anonymous";
             }
-            MDC.put(USER_ID, userId);
 
-            // 응답 헤더에도 Request ID 추가 (클라이언트가 추적에 사용 가능)
-            response.setHeader("X-Request-Id", requestId);
+            // 테일 샘플링: 로거 레벨 때문에 버려질 이 요청의 로그를 버퍼에 보관
+            // (prod에서 TailSamplingTurboFilter가 설치된 경우에만 생성됨, 아니면 null)
+            // - 버퍼는 요청마다 고유한 id로 찾음 (같은 X-Request-Id로 동시에 들어온 요청끼리 섞이지 않음)
+            tailBuffer = TailSamplingTurboFilter.begin(requestId);
 
-            // ========================================
-            // 2. 요청 시작 로그
-            // ========================================
-            log.info(">>> 요청 시작: {} {}", request.getMethod(), request.getRequestURI());
+            // 요청 MDC 스냅샷을 미리 만들어 한 번에 설정하고, 요청 속성으로도 보관
+            // - 이후 MdcTaskDecorator 등은 요청 스레드 MDC에서 스냅샷을 캡처함
+            // - 요청 스레드 밖(비동기 완료 콜백 등)에서 요청의 MDC가 필요할 때 사용
+            MdcSnapshot snapshot = MdcSnapshot.of(tailBuffer == null
+                    ? Map.of(REQUEST_ID, requestId, USER_ID, userId)
+                    : Map.of(REQUEST_ID, requestId, USER_ID, userId,
+                            TailSamplingTurboFilter.BUFFER_ID_KEY, tailBuffer.getId()));
+            snapshot.replaceCurrent();
+            request.setAttribute(MdcSnapshot.REQUEST_ATTRIBUTE, snapshot);
+
+            // 응답 헤더에도 Request ID 추가 (클라이언트가 추적에 사용 가능)
+            if (echoRequestId) {
+                response.setHeader("X-Request-Id", requestId);
+            }
 
             // ========================================
-            // 3. 다음 필터 또는 컨트롤러 실행
+            // 2. 다음 필터 또는 컨트롤러 실행
             // ========================================
             filterChain.doFilter(request, response);
 
+        } catch (IOException | ServletException | RuntimeException e) {
+            failed = true;
+            throw e;
+        } finally {
             // ========================================
-            // 4. 요청 완료 로그
+            // 3. 처리 시간 기록 + 접근 로그 (요청당 한 줄)
             // ========================================
-            log.info("<<< 요청 완료: {} {} - Status: {}",
-                    request.getMethod(), request.getRequestURI(), response.getStatus());
+            if (!failed && isAsyncStarted(request)) {
+                // 비동기 처리 중 -> 실제로 끝났을 때 완료 처리
+                request.getAsyncContext().addListener(
+                        new AsyncCompletionListener(request, response, startNanos, tailBuffer));
+            } else {
+                completeRequest(request, response, startNanos, tailBuffer, failed);
+            }
 
-        } finally {
             // ========================================
-            // 5. MDC 정리 (매우 중요!)
+            // 4. MDC 정리 (매우 중요!)
             // ========================================
             // ThreadPool을 사용하는 경우, 스레드가 재사용되므로
             // MDC를 정리하지 않으면 이전 요청의 정보가 남아있을 수 있음
@@ -91,14 +178,123 @@ public class MdcLoggingFilter extends OncePerRequestFilter {
         }
     }
 
+    /**
+     * ASYNC 디스패치: 최초 요청에서 만든 MDC 스냅샷을 복원한 뒤 실행
+     */
+    private void doFilterAsyncDispatch(HttpServletRequest request,
+                                       HttpServletResponse response,
+                                       FilterChain filterChain) throws ServletException, IOException {
+        try {
+            requestSnapshot(request).replaceCurrent();
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    /**
+     * 요청 완료 처리: 처리 시간 기록, 접근 로그, 테일 샘플링 버퍼 출력/폐기
+     */
+    private void completeRequest(HttpServletRequest request, HttpServletResponse response,
+                                 long startNanos, RequestLogBuffer tailBuffer, boolean failed) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        latencyMetrics.record(request.getMethod(), route(request), elapsedNanos);
+        if (accessLog) {
+            logAccess(request, response, elapsedNanos, failed);
+        }
+
+        // 에러 응답/예외/ERROR 로그/샘플링 대상이면 보관한 로그 출력, 아니면 버림
+        if (tailBuffer != null) {
+            tailBuffer.complete(response.getStatus(), failed);
+        }
+    }
+
+    private static MdcSnapshot requestSnapshot(HttpServletRequest request) {
+        return request.getAttribute(MdcSnapshot.REQUEST_ATTRIBUTE) instanceof MdcSnapshot snapshot
+                ? snapshot
+                : MdcSnapshot.empty();
+    }
+
+    /**
+     * DispatcherServlet이 매칭한 핸들러 패턴 (매칭 전 실패/404 등은 null)
+     */
+    private static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern instanceof String route ? route : null;
+    }
+
+    private void logAccess(HttpServletRequest request, HttpServletResponse response, long elapsedNanos, boolean failed) {
+        // INFO가 꺼져 있으면 메서드/URI 조회도 하지 않음
+        // (테일 샘플링 중인 요청은 isInfoEnabled()가 true -> 버퍼에 보관됨)
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (failed) {
+            log.info("<<< {} {} - Status: {}, {} ms (예외 발생)",
+                    request.getMethod(), request.getRequestURI(), response.getStatus(), elapsedMillis);
+        } else {
+            log.info("<<< {} {} - Status: {}, {} ms",
+                    request.getMethod(), request.getRequestURI(), response.getStatus(), elapsedMillis);
+        }
+    }
+
+    /**
+     * 비동기 요청이 실제로 끝났을 때(응답 완료) 완료 처리를 수행하는 리스너
+     * - onComplete는 컨테이너 스레드에서 호출되므로 요청 MDC를 복원한 뒤 처리하고 되돌림
+     * - 타임아웃/오류 시에도 onComplete가 마지막에 호출되므로 실패 여부만 기록해 둠
+     */
+    private final class AsyncCompletionListener implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final long startNanos;
+        private final RequestLogBuffer tailBuffer;
+        private volatile boolean failed;
+
+        private AsyncCompletionListener(HttpServletRequest request, HttpServletResponse response,
+                                        long startNanos, RequestLogBuffer tailBuffer) {
+            this.request = request;
+            this.response = response;
+            this.startNanos = startNanos;
+            this.tailBuffer = tailBuffer;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            try (MdcSnapshot.Scope ignored = requestSnapshot(request).install()) {
+                completeRequest(request, response, startNanos, tailBuffer, failed);
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 같은 요청에서 비동기 처리를 다시 시작하면 리스너가 해제되므로 다시 등록
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
     /**
      * 고유한 요청 ID 생성
      * 실무에서는 UUID 외에도 다양한 방식 사용:
      * - Snowflake ID
      * - ULID
      * - 타임스탬프 + 랜덤값 조합
+     *
+     * 기본 구현은 ULID 방식의 TimeOrderedRequestIdGenerator
+     * (RequestIdGenerator Bean 등록으로 교체 가능)
      */
     private String generateRequestId() {
-        return UUID.randomUUID().toString().substring(0, 8);
+        return requestIdGenerator.generate();
     }
 }
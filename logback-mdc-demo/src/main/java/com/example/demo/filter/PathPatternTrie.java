@@ -0,0 +1,133 @@
+package com.example.demo.filter;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * URI 제외 패턴을 한 번만 컴파일해 두는 경로 세그먼트 트라이
+ *
+ * [핵심 포인트]
+ * - 패턴은 기동 시 한 번 트라이로 변환 -> 요청마다 정규식/AntPathMatcher 파싱 없음
+ * - 매칭은 URI 문자열을 '/' 단위로 훑으며 regionMatches로 비교 (substring 할당 없음)
+ * - 비용은 패턴 개수가 아니라 URI 세그먼트 수에 비례
+ *
+ * [지원하는 패턴]
+ * - /actuator/health : 정확히 일치
+ * - /static/*        : 세그먼트 하나 (예: /static/app.js, /static/a/b.js는 불일치)
+ * - /actuator/**     : 이하 전체 (/actuator 자체 포함), 패턴의 마지막 세그먼트에서만 사용 가능
+ */
+final class PathPatternTrie {
+
+    private static final PathPatternTrie EMPTY = new PathPatternTrie(new Node());
+
+    private final Node root;
+
+    private PathPatternTrie(Node root) {
+        this.root = root;
+    }
+
+    static PathPatternTrie compile(Collection<String> patterns) {
+        if (patterns == null || patterns.isEmpty()) {
+            return EMPTY;
+        }
+        Node root = new Node();
+        for (String pattern : patterns) {
+            add(root, pattern);
+        }
+        return new PathPatternTrie(root);
+    }
+
+    boolean isEmpty() {
+        return this == EMPTY;
+    }
+
+    /**
+     * path의 from 위치부터를 경로로 보고 매칭 (컨텍스트 경로를 잘라내지 않고 건너뛰기 위함)
+     */
+    boolean matches(String path, int from) {
+        if (this == EMPTY) {
+            return false;
+        }
+        return matches(root, path, skipSlashes(path, from));
+    }
+
+    private static boolean matches(Node node, String path, int pos) {
+        if (node.matchAll) {
+            return true;
+        }
+        if (pos >= path.length()) {
+            return node.terminal;
+        }
+        int end = path.indexOf('/', pos);
+        if (end < 0) {
+            end = path.length();
+        }
+        int length = end - pos;
+        int next = skipSlashes(path, end);
+
+        String[] segments = node.segments;
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.length() == length && path.regionMatches(pos, segment, 0, length)
+                    && matches(node.children[i], path, next)) {
+                return true;
+            }
+        }
+        return node.wildcard != null && length > 0 && matches(node.wildcard, path, next);
+    }
+
+    private static int skipSlashes(String path, int pos) {
+        while (pos < path.length() && path.charAt(pos) == '/') {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static void add(Node root, String pattern) {
+        String[] segments = Arrays.stream(pattern.split("/")).filter(s -> !s.isEmpty()).toArray(String[]::new);
+        Node node = root;
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.equals("**")) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**' is only supported as the last segment: " + pattern);
+                }
+                node.matchAll = true;
+                return;
+            }
+            node = segment.equals("*") ? node.wildcard() : node.child(segment);
+        }
+        node.terminal = true;
+    }
+
+    /**
+     * 트라이 노드 (컴파일 이후 변경되지 않음)
+     */
+    private static final class Node {
+
+        private String[] segments = new String[0];
+        private Node[] children = new Node[0];
+        private Node wildcard;
+        private boolean terminal;
+        private boolean matchAll;
+
+        Node child(String segment) {
+            for (int i = 0; i < segments.length; i++) {
+                if (segments[i].equals(segment)) {
+                    return children[i];
+                }
+            }
+            segments = Arrays.copyOf(segments, segments.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            segments[segments.length - 1] = segment;
+            return children[children.length - 1] = new Node();
+        }
+
+        Node wildcard() {
+            if (wildcard == null) {
+                wildcard = new Node();
+            }
+            return wildcard;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.demo.filter;
+
+/**
+ * 요청 ID 생성 전략 (SPI)
+ *
+ * [사용 목적]
+ * - X-Request-Id 헤더가 없는 요청에 부여할 ID 생성 방식을 교체 가능하게 분리
+ * - 기본 구현은 TimeOrderedRequestIdGenerator (시간 정렬 가능, 락 없음)
+ *
+ * [교체 방법]
+ * - RequestIdGenerator 타입의 Bean을 직접 등록하면 기본 구현 대신 사용됨
+ *   (RequestIdConfig의 @ConditionalOnMissingBean 참고)
+ *
+ * [구현 시 주의]
+ * - 모든 요청 스레드에서 동시에 호출되므로 스레드 안전해야 함
+ * - 요청마다 호출되는 핫 패스이므로 락/SecureRandom 사용 지양
+ */
+@FunctionalInterface
+public interface RequestIdGenerator {
+
+    /**
+     * 새로운 요청 ID 생성
+     */
+    String generate();
+}
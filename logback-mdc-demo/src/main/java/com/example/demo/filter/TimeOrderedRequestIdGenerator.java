@@ -0,0 +1,70 @@
+package com.example.demo.filter;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시간 순 정렬이 가능한 요청 ID 생성기 (ULID 방식)
+ *
+ * [기존 방식의 문제점]
+ * - UUID.randomUUID()는 SecureRandom 기반이라 부하 상황에서 경합 발생
+ * - 36자 문자열을 만든 뒤 substring(0, 8)으로 다시 잘라내는 불필요한 할당
+ * - 생성 순서와 무관한 값이라 로그를 ID 순으로 정렬해도 시간 흐름이 보이지 않음
+ *
+ * [ID 구조] - Crockford Base32, 총 18자
+ * - 앞 10자: 밀리초 단위 타임스탬프 (48bit) -> 문자열 정렬 = 시간 정렬
+ * - 뒤 8자 : 스레드별 난수 (40bit)
+ *   같은 스레드에서 같은 밀리초에 다시 호출되면 난수부를 1 증가시켜 단조 증가 보장
+ *
+ * [성능 포인트]
+ * - 스레드별 상태(ThreadLocal)만 사용하므로 락/CAS 없음
+ * - 난수는 스레드별로 시드된 ThreadLocalRandom 사용
+ * - 재사용 char 버퍼에 직접 인코딩 -> 요청당 할당은 최종 String 1개뿐
+ */
+public class TimeOrderedRequestIdGenerator implements RequestIdGenerator {
+
+    private static final char[] ENCODING = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private static final int TIME_CHARS = 10;
+    private static final int RANDOM_CHARS = 8;
+    private static final long RANDOM_MASK = (1L << 40) - 1;
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    @Override
+    public String generate() {
+        State state = STATE.get();
+        long now = System.currentTimeMillis();
+
+        if (now == state.lastMillis) {
+            // 같은 밀리초 내 재호출: 난수부 증가로 스레드 내 순서 보장
+            state.lastRandom = (state.lastRandom + 1) & RANDOM_MASK;
+        } else {
+            state.lastMillis = now;
+            state.lastRandom = ThreadLocalRandom.current().nextLong() & RANDOM_MASK;
+        }
+
+        char[] buf = state.buffer;
+        encode(now, buf, 0, TIME_CHARS);
+        encode(state.lastRandom, buf, TIME_CHARS, RANDOM_CHARS);
+        return new String(buf);
+    }
+
+    /**
+     * value의 하위 (length * 5)bit를 buf[offset..offset+length)에 Base32로 기록
+     */
+    private static void encode(long value, char[] buf, int offset, int length) {
+        for (int i = offset + length - 1; i >= offset; i--) {
+            buf[i] = ENCODING[(int) (value & 0x1F)];
+            value >>>= 5;
+        }
+    }
+
+    /**
+     * 스레드별 생성 상태 (다른 스레드와 공유되지 않음)
+     */
+    private static final class State {
+        private final char[] buffer = new char[TIME_CHARS + RANDOM_CHARS];
+        private long lastMillis = -1L;
+        private long lastRandom;
+    }
+}
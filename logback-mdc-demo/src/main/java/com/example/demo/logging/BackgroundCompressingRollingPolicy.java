@@ -0,0 +1,78 @@
+package com.example.demo.logging;
+
+import ch.qos.logback.core.rolling.RolloverFailure;
+import ch.qos.logback.core.rolling.SizeAndTimeBasedRollingPolicy;
+
+import java.nio.file.Paths;
+
+/**
+ * 크기 + 날짜 기준으로 롤링하고, 압축/보관 정리는 GzipSegmentArchiver에 넘기는 RollingPolicy
+ *
+ * [기존 방식의 문제점]
+ * - TimeBasedRollingPolicy는 하루에 한 번만 롤링 -> 바쁜 날엔 파일 하나가 수 GB
+ * - 크기 상한(totalSizeCap)이 없어 디스크가 가득 찰 수 있음
+ *
+ * [동작 원리]
+ * 1. SizeAndTimeBasedRollingPolicy와 같이 maxFileSize 또는 날짜 변경 시 롤링 (파일 이름 변경만 수행)
+ * 2. 이름이 바뀐 파일을 GzipSegmentArchiver에 넘김 -> 압축/삭제는 아카이버 스레드에서 처리
+ *
+ * [주의 사항]
+ * - fileNamePattern에 .gz/.zip을 붙이지 않음 (붙이면 Logback이 직접 압축)
+ * - maxHistory/totalSizeCap은 이 정책이 아니라 archiver에 설정
+ *   (Logback의 정리 로직은 .gz로 바뀐 파일을 인식하지 못함)
+ *
+ * [설정 예시]
+ * <rollingPolicy class="com.example.demo.logging.BackgroundCompressingRollingPolicy">
+ *     <fileNamePattern>logs/application.%d{yyyy-MM-dd}.%i.log</fileNamePattern>
+ *     <maxFileSize>100MB</maxFileSize>
+ *     <archiver>...</archiver>
+ * </rollingPolicy>
+ */
+public class BackgroundCompressingRollingPolicy<E> extends SizeAndTimeBasedRollingPolicy<E> {
+
+    private GzipSegmentArchiver archiver;
+
+    @Override
+    public void start() {
+        String pattern = getFileNamePattern();
+        if (pattern != null && (pattern.endsWith(".gz") || pattern.endsWith(".zip"))) {
+            addError("fileNamePattern [" + pattern + "] must not end with .gz or .zip. "
+                    + "Compression is done by the archiver.");
+            return;
+        }
+        if (archiver == null) {
+            addWarn("No archiver set. Rolled files will be left uncompressed.");
+        }
+        super.start();
+        if (archiver != null && isStarted()) {
+            // 이전 실행에서 압축하지 못한 롤링 파일 다시 처리 (기록 중인 파일은 제외)
+            archiver.submitLeftovers(Paths.get(getActiveFileName()));
+        }
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        if (archiver != null) {
+            archiver.stop();
+        }
+    }
+
+    @Override
+    public void rollover() throws RolloverFailure {
+        // super.rollover()가 이름을 바꿀 대상 (롤링 전 상태에서 계산해야 함)
+        String rolledFileName = getTimeBasedFileNamingAndTriggeringPolicy().getElapsedPeriodsFileName();
+        super.rollover();
+        if (archiver != null) {
+            archiver.submit(Paths.get(rolledFileName));
+        }
+    }
+
+    public GzipSegmentArchiver getArchiver() {
+        return archiver;
+    }
+
+    public void setArchiver(GzipSegmentArchiver archiver) {
+        this.archiver = archiver;
+    }
+}
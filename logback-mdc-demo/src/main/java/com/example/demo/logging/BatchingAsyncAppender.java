@@ -0,0 +1,396 @@
+package com.example.demo.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 스레드를 I/O로부터 분리하는 배치형 비동기 Appender
+ *
+ * [기존 방식의 문제점]
+ * - ConsoleAppender / RollingFileAppender는 동기 방식
+ * - log.info() 호출마다 요청 스레드가 stdout/디스크 쓰기를 기다림
+ *
+ * [동작 원리]
+ * 1. 요청 스레드는 이벤트를 고정 크기 큐(ArrayBlockingQueue)에 넣고 바로 반환
+ * 2. 전용 소비자 스레드 1개가 큐에서 이벤트를 최대 maxBatchSize개씩 꺼냄
+ * 3. 꺼낸 이벤트를 하위 Appender로 전달한 뒤, 배치 단위로 한 번만 flush
+ *    (하위 Appender는 immediateFlush=false로 설정해야 효과가 있음)
+ *
+ * [백프레셔 정책]
+ * - 큐 잔여 용량이 discardingThreshold 미만이면 discardLevel 미만 이벤트 폐기
+ *   (기본: 큐의 20% 미만 남았을 때 INFO/DEBUG/TRACE 폐기, WARN 이상은 유지)
+ * - neverBlock=true: 큐가 가득 차면 요청 스레드를 막지 않고 이벤트 폐기
+ * - neverBlock=false: 큐가 가득 차면 빈 자리가 생길 때까지 대기
+ *
+ * [지연 포맷팅 (deferFormatting=true)]
+ * - 기본 동작: 큐에 넣기 전에 요청 스레드에서 메시지를 포맷 ("... orderId: {}" -> "... orderId: ORDER-001")
+ * - 지연 모드: 요청 스레드에서는 스레드명/MDC만 고정하고, 템플릿과 인자 참조를 그대로 큐에 넣음
+ *   -> 포맷은 소비자 스레드에서 텍스트/JSON Encoder가 필요할 때 수행
+ *   -> BinaryEncoder처럼 템플릿 + 인자를 그대로 기록하는 Encoder는 포맷 자체를 하지 않음
+ * - 인자가 모두 불변 타입(String, 숫자, Boolean, Enum, UUID, java.time 등)일 때만 지연
+ *   가변 객체가 섞여 있으면 소비자 스레드에서 포맷할 때 값이 바뀌어 있을 수 있으므로 기존처럼 즉시 포맷
+ *
+ * [메트릭]
+ * - getQueueDepth(), getDroppedCount() 등을 LoggingMetricsConfig에서 Micrometer로 노출
+ *
+ * [설정 예시]
+ * <appender name="ASYNC_FILE" class="com.example.demo.logging.BatchingAsyncAppender">
+ *     <queueSize>8192</queueSize>
+ *     <neverBlock>true</neverBlock>
+ *     <appender-ref ref="FILE"/>
+ * </appender>
+ */
+public class BatchingAsyncAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    public static final int DEFAULT_QUEUE_SIZE = 8192;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 256;
+    public static final int DEFAULT_MAX_FLUSH_TIME = 1000;
+
+    private static final int UNDEFINED = -1;
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private int appenderCount = 0;
+
+    // 설정 값 (logback-spring.xml에서 주입)
+    private int queueSize = DEFAULT_QUEUE_SIZE;
+    private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+    private int discardingThreshold = UNDEFINED;
+    private Level discardLevel = Level.WARN;
+    private boolean neverBlock = false;
+    private boolean includeCallerData = false;
+    private int maxFlushTime = DEFAULT_MAX_FLUSH_TIME;
+    private boolean deferFormatting = false;
+
+    private BlockingQueue<ILoggingEvent> queue;
+    private Thread worker;
+
+    // 메트릭
+    private final LongAdder enqueuedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder deferredCount = new LongAdder();
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (appenderCount == 0) {
+            addError("No attached appenders found for [" + name + "].");
+            return;
+        }
+        if (queueSize < 1) {
+            addError("Invalid queue size [" + queueSize + "]");
+            return;
+        }
+        if (maxBatchSize < 1) {
+            addError("Invalid max batch size [" + maxBatchSize + "]");
+            return;
+        }
+
+        queue = new ArrayBlockingQueue<>(queueSize);
+        if (discardingThreshold == UNDEFINED) {
+            discardingThreshold = queueSize / 5;
+        }
+
+        worker = new Thread(this::drainLoop, "AsyncLog-" + getName());
+        worker.setDaemon(true);
+
+        super.start();
+        worker.start();
+        addInfo("Setting discardingThreshold to " + discardingThreshold
+                + ", discardLevel to " + discardLevel + ", maxBatchSize to " + maxBatchSize);
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+
+        // 소비자 스레드가 남은 이벤트를 모두 내보낼 때까지 최대 maxFlushTime 동안 대기
+        super.stop();
+        worker.interrupt();
+        try {
+            worker.join(maxFlushTime);
+            if (worker.isAlive()) {
+                addWarn("Max queue flush timeout (" + maxFlushTime + " ms) exceeded. "
+                        + queue.size() + " queued events were possibly discarded.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            addError("Failed to join worker thread. " + queue.size() + " queued events may be discarded.", e);
+        }
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (isQueueBelowDiscardingThreshold() && isDiscardable(event)) {
+            droppedCount.increment();
+            return;
+        }
+
+        preprocess(event);
+
+        if (neverBlock) {
+            if (!queue.offer(event)) {
+                droppedCount.increment();
+                return;
+            }
+        } else {
+            putUninterruptibly(event);
+        }
+        enqueuedCount.increment();
+    }
+
+    private boolean isQueueBelowDiscardingThreshold() {
+        return queue.remainingCapacity() < discardingThreshold;
+    }
+
+    private boolean isDiscardable(ILoggingEvent event) {
+        return !event.getLevel().isGreaterOrEqual(discardLevel);
+    }
+
+    /**
+     * 다른 스레드에서 처리되기 전에 요청 스레드의 정보(MDC, 스레드명 등)를 이벤트에 고정
+     * - deferFormatting=true이고 인자가 모두 불변이면 메시지 포맷은 소비자 스레드로 미룸
+     */
+    private void preprocess(ILoggingEvent event) {
+        if (!deferFormatting) {
+            event.prepareForDeferredProcessing();
+        } else if (DeferredFormatting.prepare(event)) {
+            deferredCount.increment();
+        }
+        if (includeCallerData) {
+            event.getCallerData();
+        }
+    }
+
+    private void putUninterruptibly(ILoggingEvent event) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    queue.put(event);
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 소비자 스레드 루프
+     * - 첫 이벤트는 take()로 대기, 이후 쌓여 있는 이벤트는 drainTo()로 한 번에 가져옴
+     * - 종료 시 큐에 남은 이벤트를 모두 내보낸 뒤 하위 Appender 정리
+     */
+    private void drainLoop() {
+        List<ILoggingEvent> batch = new ArrayList<>(maxBatchSize);
+        while (isStarted()) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, maxBatchSize - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+
+        addInfo("Worker thread will flush remaining events before exiting.");
+        while (queue.drainTo(batch, maxBatchSize) > 0) {
+            deliver(batch);
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    private void deliver(List<ILoggingEvent> batch) {
+        for (ILoggingEvent event : batch) {
+            appenders.appendLoopOnAppenders(event);
+        }
+        batch.clear();
+        flushAppenders();
+        batchCount.increment();
+    }
+
+    /**
+     * immediateFlush=false인 하위 Appender를 배치당 한 번만 flush
+     * - 하위 Appender는 이 소비자 스레드에서만 쓰이므로 별도 락 없이 flush 가능
+     */
+    private void flushAppenders() {
+        Iterator<Appender<ILoggingEvent>> it = appenders.iteratorForAppenders();
+        while (it.hasNext()) {
+            Appender<ILoggingEvent> appender = it.next();
+            if (appender instanceof OutputStreamAppender<ILoggingEvent> osa && !osa.isImmediateFlush()) {
+                OutputStream os = osa.getOutputStream();
+                if (os == null) {
+                    continue;
+                }
+                try {
+                    os.flush();
+                } catch (IOException e) {
+                    addError("Failed to flush appender [" + appender.getName() + "]", e);
+                }
+            }
+        }
+    }
+
+    // ========================================
+    // 메트릭
+    // ========================================
+
+    public int getQueueDepth() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    public int getRemainingCapacity() {
+        return queue == null ? 0 : queue.remainingCapacity();
+    }
+
+    public long getEnqueuedCount() {
+        return enqueuedCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * 메시지 포맷을 소비자 스레드로 미룬 이벤트 수 (누적)
+     */
+    public long getDeferredCount() {
+        return deferredCount.sum();
+    }
+
+    public long getBatchCount() {
+        return batchCount.sum();
+    }
+
+    // ========================================
+    // 설정 (Joran이 setter로 주입)
+    // ========================================
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public int getDiscardingThreshold() {
+        return discardingThreshold;
+    }
+
+    public void setDiscardingThreshold(int discardingThreshold) {
+        this.discardingThreshold = discardingThreshold;
+    }
+
+    public Level getDiscardLevel() {
+        return discardLevel;
+    }
+
+    public void setDiscardLevel(Level discardLevel) {
+        this.discardLevel = discardLevel;
+    }
+
+    public boolean isNeverBlock() {
+        return neverBlock;
+    }
+
+    public void setNeverBlock(boolean neverBlock) {
+        this.neverBlock = neverBlock;
+    }
+
+    public boolean isIncludeCallerData() {
+        return includeCallerData;
+    }
+
+    public void setIncludeCallerData(boolean includeCallerData) {
+        this.includeCallerData = includeCallerData;
+    }
+
+    public boolean isDeferFormatting() {
+        return deferFormatting;
+    }
+
+    public void setDeferFormatting(boolean deferFormatting) {
+        this.deferFormatting = deferFormatting;
+    }
+
+    public int getMaxFlushTime() {
+        return maxFlushTime;
+    }
+
+    public void setMaxFlushTime(int maxFlushTime) {
+        this.maxFlushTime = maxFlushTime;
+    }
+
+    // ========================================
+    // AppenderAttachable
+    // ========================================
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        appenderCount++;
+        addInfo("Attaching appender named [" + newAppender.getName() + "] to BatchingAsyncAppender.");
+        appenders.addAppender(newAppender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
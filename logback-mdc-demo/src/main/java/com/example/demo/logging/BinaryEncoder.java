@@ -0,0 +1,393 @@
+package com.example.demo.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.StackTraceElementProxy;
+import ch.qos.logback.core.encoder.EncoderBase;
+import org.slf4j.helpers.MessageFormatter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.example.demo.logging.BinaryLogFormat.*;
+
+/**
+ * 로그 이벤트를 텍스트 대신 길이 prefix가 붙은 바이너리 레코드로 기록하는 Encoder
+ *
+ * [기존 방식의 문제점]
+ * - %d{yyyy-MM-dd HH:mm:ss.SSS}, %logger{36}, %X{...} 같은 텍스트 렌더링이 로깅 CPU의 큰 비중
+ * - 같은 로거 이름/메시지 템플릿/Request ID가 줄마다 반복되어 디스크를 차지
+ *
+ * [동작 원리]
+ * - 시각은 epoch nanos(long), 레벨은 1바이트로 기록 (포맷팅 없음)
+ * - 로거/스레드/메시지 템플릿/MDC 키와 값은 사전(Dictionary)에 등록하고 id만 기록
+ * - 메시지는 포맷하지 않고 템플릿 id + 인자 원본 값으로 기록 (포맷은 디코딩 시점에 수행)
+ * - 형식 상세는 BinaryLogFormat, 텍스트/JSON 복원은 BinaryLogDecoder 참고
+ *
+ * [주의 사항]
+ * - 사전 때문에 레코드는 인코딩한 순서대로 파일에 기록되어야 함
+ *   -> 소비자 스레드가 1개인 BatchingAsyncAppender 뒤에서 사용 (ASYNC_BINARY_FILE)
+ * - 새 파일이 열릴 때(headerBytes) 사전을 초기화하므로 파일마다 독립적으로 디코딩 가능
+ * - 이벤트 1건의 MDC 항목 수가 dictionarySize를 넘으면 넘는 항목은 기록하지 않음 (경고 1회)
+ *
+ * [설정 예시]
+ * <encoder class="com.example.demo.logging.BinaryEncoder">
+ *     <dictionarySize>4096</dictionarySize>
+ * </encoder>
+ */
+public class BinaryEncoder extends EncoderBase<ILoggingEvent> {
+
+    public static final int DEFAULT_DICTIONARY_SIZE = 4096;
+    private static final int MIN_DICTIONARY_SIZE = 64;
+
+    // 이 크기 이상으로 커진 버퍼는 재사용하지 않음 (큰 스택 트레이스 1건으로 메모리가 계속 점유되지 않도록)
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private int dictionarySize = DEFAULT_DICTIONARY_SIZE;
+
+    private Dictionary loggers;
+    private Dictionary threads;
+    private Dictionary templates;
+    private Dictionary mdcKeys;
+    private Dictionary mdcValues;
+
+    // encode()는 단일 기록 스레드 전제이므로 버퍼를 하나만 사용
+    private JsonEncoder.ByteBuf buf = new JsonEncoder.ByteBuf();
+    private int[] mdcIds = new int[16];
+
+    private Thread writerThread;
+    private boolean writerWarned;
+    private boolean mdcOverflowWarned;
+
+    @Override
+    public void start() {
+        if (dictionarySize < MIN_DICTIONARY_SIZE) {
+            addError("dictionarySize must be at least " + MIN_DICTIONARY_SIZE + " but was " + dictionarySize);
+            return;
+        }
+        loggers = new Dictionary(dictionarySize);
+        threads = new Dictionary(dictionarySize);
+        templates = new Dictionary(dictionarySize);
+        mdcKeys = new Dictionary(dictionarySize);
+        mdcValues = new Dictionary(dictionarySize);
+        super.start();
+    }
+
+    /**
+     * 새 파일의 시작: 사전을 초기화하고 헤더 기록
+     */
+    @Override
+    public synchronized byte[] headerBytes() {
+        loggers.clear();
+        threads.clear();
+        templates.clear();
+        mdcKeys.clear();
+        mdcValues.clear();
+
+        JsonEncoder.ByteBuf header = new JsonEncoder.ByteBuf();
+        header.writeInt(MAGIC);
+        header.write(VERSION);
+        header.writeInt(dictionarySize);
+        return header.toByteArray();
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    @Override
+    public synchronized byte[] encode(ILoggingEvent event) {
+        checkSingleWriter();
+
+        JsonEncoder.ByteBuf out = buf;
+        out.reset();
+        out.writeInt(0); // 길이 자리 (마지막에 채움)
+        beginRecord();
+
+        // 1. 사전 정의 (처음 나온 문자열만 기록)
+        int loggerId = ref(out, loggers, DEF_LOGGER, event.getLoggerName());
+        int threadId = ref(out, threads, DEF_THREAD, event.getThreadName());
+        String template = event.getMessage();
+        int templateId = ref(out, templates, DEF_TEMPLATE, template == null ? "" : template);
+
+        Map<String, String> mdc = event.getMDCPropertyMap();
+        int mdcCount = mdc == null ? 0 : mdc.size();
+        if (mdcIds.length < mdcCount * 2) {
+            mdcIds = new int[mdcCount * 2];
+        }
+        if (mdcCount > 0) {
+            int i = 0;
+            for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                // 요청마다 값이 다른 내부 키(테일 샘플링 버퍼 id)는 사전만 채우므로 기록하지 않음
+                if (TailSamplingTurboFilter.BUFFER_ID_KEY.equals(entry.getKey())) {
+                    continue;
+                }
+                int keyId = ref(out, mdcKeys, DEF_MDC_KEY, entry.getKey());
+                int valueId = ref(out, mdcValues, DEF_MDC_VALUE, entry.getValue() == null ? "" : entry.getValue());
+                if (keyId < 0 || valueId < 0) {
+                    warnMdcOverflow(mdc.size());
+                    continue;
+                }
+                mdcIds[i++] = keyId;
+                mdcIds[i++] = valueId;
+            }
+            mdcCount = i / 2;
+        }
+
+        // 2. 이벤트 본문
+        out.write(EVENT);
+        Instant instant = event.getInstant();
+        out.writeLong(instant != null
+                ? instant.getEpochSecond() * 1_000_000_000L + instant.getNano()
+                : event.getTimeStamp() * 1_000_000L);
+        out.write(levelCode(event.getLevel()));
+        writeVarInt(out, loggerId);
+        writeVarInt(out, threadId);
+        writeVarInt(out, templateId);
+
+        Object[] args = event.getArgumentArray();
+        int argCount = args == null ? 0 : args.length;
+        writeVarInt(out, argCount);
+        for (int i = 0; i < argCount; i++) {
+            writeArgument(out, args[i]);
+        }
+
+        writeVarInt(out, mdcCount);
+        for (int i = 0; i < mdcCount * 2; i++) {
+            writeVarInt(out, mdcIds[i]);
+        }
+
+        IThrowableProxy throwable = event.getThrowableProxy();
+        out.write(throwable == null ? 0 : 1);
+        if (throwable != null) {
+            writeThrowable(out, throwable);
+        }
+
+        out.setInt(0, out.size() - 4);
+        byte[] result = out.toByteArray();
+        if (out.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+            buf = new JsonEncoder.ByteBuf();
+        }
+        return result;
+    }
+
+    /**
+     * 사전에 없으면 id를 새로 할당하고 정의 레코드를 기록
+     *
+     * @return id (이 레코드가 사전의 모든 슬롯을 이미 참조하고 있으면 -1)
+     */
+    private static int ref(JsonEncoder.ByteBuf out, Dictionary dictionary, byte defTag, String value) {
+        int id = dictionary.lookup(value);
+        if (id < 0) {
+            id = dictionary.assign(value);
+            if (id < 0) {
+                return -1;
+            }
+            out.write(defTag);
+            writeVarInt(out, id);
+            writeString(out, value);
+        }
+        return id;
+    }
+
+    /**
+     * 숫자/불리언은 원본 값으로, 그 외는 SLF4J가 {}에 렌더링하는 문자열로 기록
+     */
+    private static void writeArgument(JsonEncoder.ByteBuf out, Object arg) {
+        if (arg == null) {
+            out.write(ARG_NULL);
+        } else if (arg instanceof Long || arg instanceof Integer || arg instanceof Short || arg instanceof Byte) {
+            out.write(ARG_LONG);
+            writeVarLong(out, zigZag(((Number) arg).longValue()));
+        } else if (arg instanceof Double || arg instanceof Float) {
+            out.write(ARG_DOUBLE);
+            out.writeLong(Double.doubleToRawLongBits(((Number) arg).doubleValue()));
+        } else if (arg instanceof Boolean b) {
+            out.write(b ? ARG_TRUE : ARG_FALSE);
+        } else {
+            out.write(ARG_STRING);
+            writeString(out, render(arg));
+        }
+    }
+
+    private static String render(Object arg) {
+        if (arg instanceof String s) {
+            return s;
+        }
+        if (arg.getClass().isArray()) {
+            return MessageFormatter.arrayFormat("{}", new Object[]{arg}).getMessage();
+        }
+        try {
+            return arg.toString();
+        } catch (RuntimeException e) {
+            return "[FAILED toString()]";
+        }
+    }
+
+    private static void writeThrowable(JsonEncoder.ByteBuf out, IThrowableProxy throwable) {
+        writeString(out, throwable.getClassName());
+        writeString(out, throwable.getMessage());
+        out.write(throwable.isCyclic() ? 1 : 0);
+
+        StackTraceElementProxy[] frames = throwable.getStackTraceElementProxyArray();
+        int frameCount = frames == null ? 0 : frames.length;
+        writeVarInt(out, frameCount);
+        for (int i = 0; i < frameCount; i++) {
+            StackTraceElement element = frames[i].getStackTraceElement();
+            writeString(out, element.getClassName());
+            writeString(out, element.getMethodName());
+            writeString(out, element.getFileName());
+            writeVarLong(out, zigZag(element.getLineNumber()));
+        }
+        writeVarInt(out, throwable.getCommonFrames());
+
+        IThrowableProxy[] suppressed = throwable.getSuppressed();
+        int suppressedCount = suppressed == null ? 0 : suppressed.length;
+        writeVarInt(out, suppressedCount);
+        for (int i = 0; i < suppressedCount; i++) {
+            writeThrowable(out, suppressed[i]);
+        }
+
+        IThrowableProxy cause = throwable.getCause();
+        out.write(cause == null ? 0 : 1);
+        if (cause != null) {
+            writeThrowable(out, cause);
+        }
+    }
+
+    private void beginRecord() {
+        loggers.beginRecord();
+        threads.beginRecord();
+        templates.beginRecord();
+        mdcKeys.beginRecord();
+        mdcValues.beginRecord();
+    }
+
+    private void warnMdcOverflow(int mdcSize) {
+        if (!mdcOverflowWarned) {
+            mdcOverflowWarned = true;
+            addWarn("An event has " + mdcSize + " MDC entries but dictionarySize is " + dictionarySize
+                    + ". Entries that do not fit are not written. Increase dictionarySize.");
+        }
+    }
+
+    private void checkSingleWriter() {
+        Thread current = Thread.currentThread();
+        if (writerThread == null) {
+            writerThread = current;
+        } else if (writerThread != current && !writerWarned) {
+            writerWarned = true;
+            addWarn("BinaryEncoder is used from more than one thread ([" + writerThread.getName() + "], ["
+                    + current.getName() + "]). Records may be written out of order and fail to decode. "
+                    + "Put the appender behind a BatchingAsyncAppender.");
+        }
+    }
+
+    // ========================================
+    // 기본 인코딩
+    // ========================================
+
+    static void writeString(JsonEncoder.ByteBuf out, String value) {
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    static void writeVarInt(JsonEncoder.ByteBuf out, int value) {
+        writeVarLong(out, value & 0xFFFFFFFFL);
+    }
+
+    static void writeVarLong(JsonEncoder.ByteBuf out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * 문자열 -> id 사전 (가득 차면 가장 오래된 id부터 재사용)
+     * - 현재 레코드가 참조한 id는 재사용하지 않음 (디코더가 정의를 먼저 모두 반영한 뒤 id를 해석하므로)
+     */
+    static final class Dictionary {
+
+        private final Map<String, Integer> ids;
+        private final String[] slots;
+        // 슬롯을 마지막으로 참조한 레코드 번호 (== record 이면 현재 레코드가 사용 중)
+        private final long[] usedBy;
+        private int next;
+        private long record;
+
+        Dictionary(int size) {
+            this.ids = new HashMap<>(size * 2);
+            this.slots = new String[size];
+            this.usedBy = new long[size];
+        }
+
+        void beginRecord() {
+            record++;
+        }
+
+        int lookup(String value) {
+            Integer id = ids.get(value);
+            if (id == null) {
+                return -1;
+            }
+            usedBy[id] = record;
+            return id;
+        }
+
+        /**
+         * @return 새 id (현재 레코드가 모든 슬롯을 참조 중이면 -1)
+         */
+        int assign(String value) {
+            for (int attempt = 0; attempt < slots.length; attempt++) {
+                int id = next;
+                next = (next + 1) % slots.length;
+                if (usedBy[id] == record) {
+                    continue;
+                }
+                String evicted = slots[id];
+                if (evicted != null) {
+                    ids.remove(evicted);
+                }
+                slots[id] = value;
+                ids.put(value, id);
+                usedBy[id] = record;
+                return id;
+            }
+            return -1;
+        }
+
+        void clear() {
+            ids.clear();
+            Arrays.fill(slots, null);
+            Arrays.fill(usedBy, 0);
+            next = 0;
+        }
+    }
+
+    // ========================================
+    // 설정 (Getter / Setter)
+    // ========================================
+
+    public int getDictionarySize() {
+        return dictionarySize;
+    }
+
+    public void setDictionarySize(int dictionarySize) {
+        this.dictionarySize = dictionarySize;
+    }
+}
@@ -0,0 +1,354 @@
+package com.example.demo.logging;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.PatternLayout;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.spi.StackTraceElementProxy;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static com.example.demo.logging.BinaryLogFormat.*;
+
+/**
+ * BinaryEncoder로 기록한 파일을 기존 텍스트/JSON 형식으로 되돌리는 디코더 (CLI 겸용)
+ *
+ * [동작 원리]
+ * 1. 레코드를 읽어 사전 정의는 사전에 반영하고, 이벤트는 LoggingEvent로 복원
+ * 2. 복원한 이벤트를 기존 PatternLayout(FILE 패턴) 또는 JsonEncoder로 렌더링
+ *    -> 메시지 포맷({} 치환), 시각 포맷은 이 시점에 처음 수행됨
+ *
+ * [사용 방법]
+ * ./gradlew decodeBinaryLog -PdecodeArgs="logs/binary/application.2024-01-01.0.lgb.gz"
+ * ./gradlew decodeBinaryLog -PdecodeArgs="--format=json logs/binary/application.lgb"
+ *
+ * 옵션
+ * --format=text|json : 출력 형식 (기본 text, logback-spring.xml의 FILE 패턴)
+ * --pattern=...      : text 형식에서 사용할 PatternLayout 패턴
+ * .gz로 끝나는 파일은 압축을 풀며 읽음
+ */
+public class BinaryLogDecoder {
+
+    public static final String DEFAULT_PATTERN =
+            "%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] [RequestId: %X{requestId}] [UserId: %X{userId}] %-5level %logger{36} - %msg%n";
+
+    private final DataInputStream in;
+
+    private String[] loggers = new String[0];
+    private String[] threads = new String[0];
+    private String[] templates = new String[0];
+    private String[] mdcKeys = new String[0];
+    private String[] mdcValues = new String[0];
+
+    public BinaryLogDecoder(InputStream in) {
+        this.in = new DataInputStream(new BufferedInputStream(in, 64 * 1024));
+    }
+
+    /**
+     * 다음 이벤트를 읽음 (파일 끝이면 null)
+     * - 마지막 레코드가 잘려 있으면 (기록 도중 종료) 그 레코드는 버리고 null 반환
+     */
+    public ILoggingEvent next() throws IOException {
+        while (true) {
+            int length;
+            try {
+                length = in.readInt();
+            } catch (EOFException e) {
+                return null;
+            }
+
+            if (length == MAGIC) {
+                readHeader();
+                continue;
+            }
+
+            byte[] body = new byte[length];
+            try {
+                in.readFully(body);
+            } catch (EOFException e) {
+                return null;
+            }
+            return readRecord(new DataInputStream(new ByteArrayInputStream(body)));
+        }
+    }
+
+    private void readHeader() throws IOException {
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary log version: " + version);
+        }
+        int dictionarySize = in.readInt();
+        loggers = new String[dictionarySize];
+        threads = new String[dictionarySize];
+        templates = new String[dictionarySize];
+        mdcKeys = new String[dictionarySize];
+        mdcValues = new String[dictionarySize];
+    }
+
+    private ILoggingEvent readRecord(DataInputStream record) throws IOException {
+        // 1. 사전 정의
+        byte tag;
+        while ((tag = record.readByte()) != EVENT) {
+            int id = readVarInt(record);
+            String value = readString(record);
+            switch (tag) {
+                case DEF_LOGGER -> loggers[id] = value;
+                case DEF_THREAD -> threads[id] = value;
+                case DEF_TEMPLATE -> templates[id] = value;
+                case DEF_MDC_KEY -> mdcKeys[id] = value;
+                case DEF_MDC_VALUE -> mdcValues[id] = value;
+                default -> throw new IOException("Unknown record tag: " + tag);
+            }
+        }
+
+        // 2. 이벤트 본문
+        DecodedLoggingEvent event = new DecodedLoggingEvent();
+        long epochNanos = record.readLong();
+        event.setInstant(Instant.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L),
+                Math.floorMod(epochNanos, 1_000_000_000L)));
+        event.setLevel(level(record.readByte()));
+        event.setLoggerName(loggers[readVarInt(record)]);
+        event.setThreadName(threads[readVarInt(record)]);
+        event.setMessage(templates[readVarInt(record)]);
+
+        int argCount = readVarInt(record);
+        if (argCount > 0) {
+            Object[] args = new Object[argCount];
+            for (int i = 0; i < argCount; i++) {
+                args[i] = readArgument(record);
+            }
+            event.setArgumentArray(args);
+        }
+
+        int mdcCount = readVarInt(record);
+        Map<String, String> mdc = mdcCount == 0 ? Collections.emptyMap() : new HashMap<>(mdcCount * 2);
+        for (int i = 0; i < mdcCount; i++) {
+            mdc.put(mdcKeys[readVarInt(record)], mdcValues[readVarInt(record)]);
+        }
+        event.setMDCPropertyMap(mdc);
+
+        if (record.readByte() != 0) {
+            event.throwableProxy = readThrowable(record);
+        }
+        return event;
+    }
+
+    private static Object readArgument(DataInputStream record) throws IOException {
+        byte tag = record.readByte();
+        return switch (tag) {
+            case ARG_NULL -> null;
+            case ARG_STRING -> readString(record);
+            case ARG_LONG -> unZigZag(readVarLong(record));
+            case ARG_DOUBLE -> Double.longBitsToDouble(record.readLong());
+            case ARG_FALSE -> Boolean.FALSE;
+            case ARG_TRUE -> Boolean.TRUE;
+            default -> throw new IOException("Unknown argument tag: " + tag);
+        };
+    }
+
+    private static DecodedThrowableProxy readThrowable(DataInputStream record) throws IOException {
+        DecodedThrowableProxy proxy = new DecodedThrowableProxy();
+        proxy.className = readString(record);
+        proxy.message = readString(record);
+        proxy.cyclic = record.readByte() != 0;
+
+        int frameCount = readVarInt(record);
+        proxy.frames = new StackTraceElementProxy[frameCount];
+        for (int i = 0; i < frameCount; i++) {
+            String declaringClass = readString(record);
+            String methodName = readString(record);
+            String fileName = readString(record);
+            int lineNumber = (int) unZigZag(readVarLong(record));
+            proxy.frames[i] = new StackTraceElementProxy(
+                    new StackTraceElement(declaringClass, methodName, fileName, lineNumber));
+        }
+        proxy.commonFrames = readVarInt(record);
+
+        int suppressedCount = readVarInt(record);
+        proxy.suppressed = new IThrowableProxy[suppressedCount];
+        for (int i = 0; i < suppressedCount; i++) {
+            proxy.suppressed[i] = readThrowable(record);
+        }
+
+        if (record.readByte() != 0) {
+            proxy.cause = readThrowable(record);
+        }
+        return proxy;
+    }
+
+    // ========================================
+    // 기본 디코딩
+    // ========================================
+
+    private static String readString(DataInputStream record) throws IOException {
+        int length = readVarInt(record);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length - 1];
+        record.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readVarInt(DataInputStream record) throws IOException {
+        return (int) readVarLong(record);
+    }
+
+    private static long readVarLong(DataInputStream record) throws IOException {
+        long result = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = record.readByte();
+            result |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return result;
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * 디코딩한 예외를 기존 레이아웃(%ex, JsonEncoder)이 그대로 렌더링할 수 있게 하는 LoggingEvent
+     * - LoggingEvent.setThrowableProxy()는 실제 ThrowableProxy만 받으므로 getter를 재정의
+     */
+    static final class DecodedLoggingEvent extends LoggingEvent {
+
+        private IThrowableProxy throwableProxy;
+
+        @Override
+        public IThrowableProxy getThrowableProxy() {
+            return throwableProxy;
+        }
+    }
+
+    static final class DecodedThrowableProxy implements IThrowableProxy {
+
+        private String className;
+        private String message;
+        private boolean cyclic;
+        private StackTraceElementProxy[] frames;
+        private int commonFrames;
+        private IThrowableProxy cause;
+        private IThrowableProxy[] suppressed;
+
+        @Override
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String getClassName() {
+            return className;
+        }
+
+        @Override
+        public StackTraceElementProxy[] getStackTraceElementProxyArray() {
+            return frames;
+        }
+
+        @Override
+        public int getCommonFrames() {
+            return commonFrames;
+        }
+
+        @Override
+        public IThrowableProxy getCause() {
+            return cause;
+        }
+
+        @Override
+        public IThrowableProxy[] getSuppressed() {
+            return suppressed;
+        }
+
+        @Override
+        public boolean isCyclic() {
+            return cyclic;
+        }
+    }
+
+    // ========================================
+    // CLI
+    // ========================================
+
+    public static void main(String[] args) throws IOException {
+        String format = "text";
+        String pattern = DEFAULT_PATTERN;
+        List<Path> files = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--format=")) {
+                format = arg.substring("--format=".length());
+            } else if (arg.startsWith("--pattern=")) {
+                pattern = arg.substring("--pattern=".length());
+            } else {
+                files.add(Paths.get(arg));
+            }
+        }
+        if (files.isEmpty() || !(format.equals("text") || format.equals("json"))) {
+            System.err.println("Usage: BinaryLogDecoder [--format=text|json] [--pattern=<layout pattern>] <file>...");
+            System.exit(2);
+        }
+
+        LoggerContext context = new LoggerContext();
+        Renderer renderer = format.equals("json") ? jsonRenderer(context) : textRenderer(context, pattern);
+
+        try (OutputStream out = new BufferedOutputStream(System.out, 64 * 1024)) {
+            for (Path file : files) {
+                try (InputStream raw = open(file)) {
+                    BinaryLogDecoder decoder = new BinaryLogDecoder(raw);
+                    ILoggingEvent event;
+                    while ((event = decoder.next()) != null) {
+                        out.write(renderer.render(event));
+                    }
+                }
+            }
+        }
+    }
+
+    private static InputStream open(Path file) throws IOException {
+        InputStream in = Files.newInputStream(file);
+        return file.getFileName().toString().endsWith(".gz") ? new GZIPInputStream(in, 64 * 1024) : in;
+    }
+
+    private static Renderer textRenderer(LoggerContext context, String pattern) {
+        PatternLayout layout = new PatternLayout();
+        layout.setContext(context);
+        layout.setPattern(pattern);
+        layout.start();
+        return event -> layout.doLayout(event).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Renderer jsonRenderer(LoggerContext context) {
+        JsonEncoder encoder = new JsonEncoder();
+        encoder.setContext(context);
+        encoder.start();
+        return encoder::encode;
+    }
+
+    @FunctionalInterface
+    private interface Renderer {
+        byte[] render(ILoggingEvent event);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.demo.logging;
+
+import ch.qos.logback.classic.Level;
+
+/**
+ * 바이너리 로그 파일 형식 정의 (BinaryEncoder / BinaryLogDecoder 공용)
+ *
+ * [파일 구조]
+ * - 헤더: MAGIC(int) + VERSION(byte) + dictionarySize(int)
+ *   (파일을 이어 쓰면 중간에 헤더가 다시 나올 수 있음 -> 디코더는 사전을 초기화하고 계속 읽음)
+ * - 레코드: length(int) + body
+ *
+ * [레코드 body]
+ * 1. 사전 정의 0개 이상: DEF_*(byte) + id(varint) + 문자열
+ *    - 로거 이름/스레드 이름/메시지 템플릿/MDC 키/MDC 값은 처음 나올 때만 문자열로 기록하고 이후엔 id만 기록
+ *    - 사전이 가득 차면 가장 오래된 id부터 재사용 (디코더도 같은 순서로 덮어씀)
+ *    - 단, 같은 레코드가 이미 참조한 id는 재사용하지 않음
+ *      (디코더는 정의를 모두 반영한 뒤 id를 해석하므로, 덮어쓰면 앞 필드가 뒤 값으로 읽힘)
+ * 2. EVENT(byte)
+ *    - epochNanos(long), level(byte)
+ *    - loggerId, threadId, templateId (varint)
+ *    - 인자 개수(varint) + 인자 (ARG_* 태그 + 값)
+ *    - MDC 개수(varint) + (keyId, valueId) 쌍
+ *    - 예외 여부(byte) + 예외 구조 (클래스명, 메시지, 스택 프레임, cause, suppressed)
+ *
+ * [문자열]
+ * - (UTF-8 바이트 길이 + 1)(varint) + UTF-8 바이트, 0이면 null
+ */
+final class BinaryLogFormat {
+
+    /** "LGB1" */
+    static final int MAGIC = 0x4C474231;
+    static final byte VERSION = 1;
+
+    // 사전 정의 태그
+    static final byte DEF_LOGGER = 1;
+    static final byte DEF_THREAD = 2;
+    static final byte DEF_TEMPLATE = 3;
+    static final byte DEF_MDC_KEY = 4;
+    static final byte DEF_MDC_VALUE = 5;
+    static final byte EVENT = 10;
+
+    // 인자 태그
+    static final byte ARG_NULL = 0;
+    static final byte ARG_STRING = 1;
+    static final byte ARG_LONG = 2;
+    static final byte ARG_DOUBLE = 3;
+    static final byte ARG_FALSE = 4;
+    static final byte ARG_TRUE = 5;
+
+    private BinaryLogFormat() {
+    }
+
+    static byte levelCode(Level level) {
+        return switch (level.toInt()) {
+            case Level.TRACE_INT -> 0;
+            case Level.DEBUG_INT -> 1;
+            case Level.INFO_INT -> 2;
+            case Level.WARN_INT -> 3;
+            default -> 4;
+        };
+    }
+
+    static Level level(byte code) {
+        return switch (code) {
+            case 0 -> Level.TRACE;
+            case 1 -> Level.DEBUG;
+            case 2 -> Level.INFO;
+            case 3 -> Level.WARN;
+            default -> Level.ERROR;
+        };
+    }
+}
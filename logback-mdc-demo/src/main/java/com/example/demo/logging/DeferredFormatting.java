@@ -0,0 +1,63 @@
+package com.example.demo.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 다른 스레드/나중 시점에 처리할 이벤트를 준비하는 공용 로직
+ * (BatchingAsyncAppender, TailSamplingTurboFilter에서 사용)
+ *
+ * [동작 원리]
+ * - 스레드명/MDC는 호출 스레드에서만 알 수 있으므로 항상 고정
+ * - 인자가 모두 불변 타입이면 메시지 포맷({} 치환)은 실제로 필요한 시점까지 미룸
+ * - 가변 객체가 섞여 있으면 나중에 포맷할 때 값이 바뀌어 있을 수 있으므로 즉시 포맷
+ */
+final class DeferredFormatting {
+
+    // 나중에 포맷해도 결과가 달라지지 않는 인자 타입
+    private static final Set<Class<?>> IMMUTABLE_ARGUMENT_TYPES = Set.of(
+            String.class, Integer.class, Long.class, Short.class, Byte.class, Character.class,
+            Boolean.class, Double.class, Float.class, BigDecimal.class, BigInteger.class, UUID.class,
+            Instant.class, LocalDate.class, LocalTime.class, LocalDateTime.class,
+            OffsetDateTime.class, ZonedDateTime.class, Duration.class);
+
+    private DeferredFormatting() {
+    }
+
+    /**
+     * @return 메시지 포맷을 미뤘으면 true, 즉시 포맷했으면 false
+     */
+    static boolean prepare(ILoggingEvent event) {
+        if (hasOnlyImmutableArguments(event.getArgumentArray())) {
+            // prepareForDeferredProcessing()에서 메시지 포맷만 뺀 것
+            event.getThreadName();
+            event.getMDCPropertyMap();
+            return true;
+        }
+        event.prepareForDeferredProcessing();
+        return false;
+    }
+
+    static boolean hasOnlyImmutableArguments(Object[] args) {
+        if (args == null) {
+            return true;
+        }
+        for (Object arg : args) {
+            if (arg != null && !IMMUTABLE_ARGUMENT_TYPES.contains(arg.getClass()) && !(arg instanceof Enum<?>)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,352 @@
+package com.example.demo.logging;
+
+import ch.qos.logback.core.spi.ContextAwareBase;
+import ch.qos.logback.core.spi.LifeCycle;
+import ch.qos.logback.core.util.Duration;
+import ch.qos.logback.core.util.FileSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 롤링된 로그 파일을 로깅 스레드 밖에서 gzip 압축하고 디스크 예산을 지키는 아카이버
+ *
+ * [기존 방식의 문제점]
+ * - 롤오버 시점에 압축/정리를 로깅 경로에서 하면 그 순간 로그를 쓰는 요청 스레드가 멈춤
+ * - 크기 상한이 없으면 바쁜 날 하나의 로그 파일이 수 GB까지 커짐
+ *
+ * [동작 원리]
+ * 1. Appender/RollingPolicy는 롤오버된 파일 경로를 submit()으로 넘기고 바로 반환
+ * 2. 우선순위가 가장 낮은 전용 스레드 1개가 큐에서 파일을 꺼내 {파일}.gz로 압축 후 원본 삭제
+ *    (임시 파일에 쓴 뒤 이동하므로 압축 도중 죽어도 깨진 .gz가 남지 않음)
+ * 3. 압축 후 directory의 filePrefix* 파일 합계가 totalSizeCap을 넘으면 오래된 파일부터 삭제
+ *    (.gz와 압축 대기 중인 롤링 파일이 대상), maxHistory(일)보다 오래된 파일도 삭제
+ *
+ * [종료/재기동]
+ * - stop(): 새 파일은 받지 않고, 압축 중인 파일과 대기열을 최대 stopTimeout 동안 마저 처리
+ * - 그래도 남은 파일이나 비정상 종료로 남은 파일은 다음 기동 시 submitLeftovers()가 다시 대기열에 넣음
+ *
+ * [주의 사항]
+ * - 기록 중인 파일은 예산 합계에는 포함되지만 삭제하지 않음
+ * - Linux에서 Java 스레드 우선순위는 기본적으로 OS에 반영되지 않음
+ *   (압축은 단일 스레드로 직렬 처리되므로 CPU 1코어 이상은 쓰지 않음)
+ *
+ * [설정 예시]
+ * <archiver class="com.example.demo.logging.GzipSegmentArchiver">
+ *     <directory>logs</directory>
+ *     <filePrefix>application</filePrefix>
+ *     <totalSizeCap>10GB</totalSizeCap>
+ *     <maxHistory>30</maxHistory>
+ *     <stopTimeout>30 seconds</stopTimeout>
+ * </archiver>
+ */
+public class GzipSegmentArchiver extends ContextAwareBase implements LifeCycle {
+
+    private static final String GZ = ".gz";
+    private static final String TMP = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long POLL_MILLIS = 100;
+
+    // 설정 값 (logback-spring.xml에서 주입)
+    private String directory = "logs";
+    private String filePrefix = "application";
+    private FileSize totalSizeCap;
+    private int maxHistory = 0;
+    private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+    private Duration stopTimeout = Duration.buildBySeconds(30);
+
+    private final BlockingQueue<Path> pending = new LinkedBlockingQueue<>();
+    private volatile boolean started;
+    // stop()의 대기 시간이 지나면 true -> 압축 중인 파일까지만 처리하고 종료
+    private volatile boolean abandoned;
+    private Thread worker;
+
+    @Override
+    public void start() {
+        if (started) {
+            return;
+        }
+        worker = new Thread(this::archiveLoop, "LogArchiver-" + filePrefix);
+        worker.setDaemon(true);
+        worker.setPriority(Thread.MIN_PRIORITY);
+        abandoned = false;
+        started = true;
+        worker.start();
+    }
+
+    /**
+     * 새 파일은 받지 않고, 압축 중인 파일과 대기열을 stopTimeout 동안 마저 처리
+     * - 시간 안에 끝나지 않으면 압축 중인 파일까지만 처리 (남은 파일은 다음 기동 시 다시 처리)
+     * - 압축 도중 스레드를 중단하지 않음 (임시 파일 + 이동 방식이라 중단해도 깨지지는 않지만 작업이 버려짐)
+     */
+    @Override
+    public void stop() {
+        if (!started) {
+            return;
+        }
+        started = false;
+        try {
+            worker.join(Math.max(1, stopTimeout.getMilliseconds()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            abandoned = true;
+        }
+        if (!pending.isEmpty()) {
+            addWarn(pending.size() + " rolled file(s) left uncompressed in [" + directory + "]. "
+                    + "They will be compressed after the next start.");
+        }
+    }
+
+    @Override
+    public boolean isStarted() {
+        return started;
+    }
+
+    /**
+     * 롤오버된 파일을 압축 대기열에 추가 (호출 스레드는 대기하지 않음)
+     */
+    public void submit(Path rolledFile) {
+        if (!started) {
+            addWarn("Archiver is not started. [" + rolledFile + "] is left uncompressed.");
+            return;
+        }
+        pending.offer(rolledFile);
+    }
+
+    /**
+     * 이전 실행에서 압축하지 못한 롤링 파일을 다시 대기열에 추가 (오래된 파일부터)
+     * - 로그를 기록 중인 파일(activeFile)은 제외
+     * - 비정상 종료로 남은 압축 임시 파일(.gz.tmp)은 삭제
+     * - Appender/RollingPolicy가 기록할 파일을 연 뒤 한 번 호출
+     */
+    public void submitLeftovers(Path activeFile) {
+        if (!started) {
+            return;
+        }
+        List<Path> leftovers = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(Paths.get(directory), filePrefix + "*")) {
+            for (Path file : stream) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(GZ + TMP)) {
+                    deleteQuietly(file);
+                } else if (!fileName.endsWith(GZ) && !isSameFile(file, activeFile) && Files.isRegularFile(file)) {
+                    leftovers.add(file);
+                }
+            }
+        } catch (IOException e) {
+            addError("Failed to scan [" + directory + "] for uncompressed logs", e);
+            return;
+        }
+        if (!leftovers.isEmpty()) {
+            leftovers.sort(Comparator.comparing(GzipSegmentArchiver::lastModified));
+            addInfo("Re-submitting " + leftovers.size() + " uncompressed rolled file(s) in [" + directory + "]");
+            pending.addAll(leftovers);
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private void archiveLoop() {
+        while (!abandoned && (started || !pending.isEmpty())) {
+            Path next;
+            try {
+                next = pending.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                break;
+            }
+            if (next == null) {
+                continue;
+            }
+            compress(next);
+            enforceBudget();
+        }
+    }
+
+    private void compress(Path source) {
+        if (!Files.exists(source)) {
+            return;
+        }
+        Path target = archiveName(source);
+        Path temp = target.resolveSibling(target.getFileName() + TMP);
+        try (InputStream in = Files.newInputStream(source);
+             OutputStream out = new LeveledGzipOutputStream(Files.newOutputStream(temp), compressionLevel)) {
+            in.transferTo(out);
+        } catch (IOException e) {
+            addError("Failed to compress [" + source + "]", e);
+            deleteQuietly(temp);
+            return;
+        }
+
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            Files.setLastModifiedTime(target, Files.getLastModifiedTime(source));
+            Files.delete(source);
+        } catch (IOException e) {
+            addError("Failed to replace [" + source + "] with [" + target + "]", e);
+        }
+    }
+
+    /**
+     * {파일}.gz, 이미 있으면 (재시작 후 같은 index로 다시 롤링된 경우) 시각을 붙여 구분
+     */
+    private static Path archiveName(Path source) {
+        Path target = source.resolveSibling(source.getFileName() + GZ);
+        if (Files.exists(target)) {
+            target = source.resolveSibling(source.getFileName() + "." + System.currentTimeMillis() + GZ);
+        }
+        return target;
+    }
+
+    /**
+     * maxHistory보다 오래된 파일 삭제 -> 합계가 totalSizeCap을 넘으면 오래된 파일부터 삭제
+     * - 삭제 대상: .gz + 압축 대기 중인 롤링 파일 (기록 중인 파일은 대기열에 없으므로 제외됨)
+     */
+    private void enforceBudget() {
+        if (totalSizeCap == null && maxHistory <= 0) {
+            return;
+        }
+
+        List<Path> archives = new ArrayList<>(pending);
+        long total = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(Paths.get(directory), filePrefix + "*")) {
+            for (Path file : stream) {
+                total += Files.size(file);
+                if (file.getFileName().toString().endsWith(GZ)) {
+                    archives.add(file);
+                }
+            }
+        } catch (IOException e) {
+            addError("Failed to scan [" + directory + "] for archived logs", e);
+            return;
+        }
+        archives.sort(Comparator.comparing(GzipSegmentArchiver::lastModified));
+
+        FileTime expiry = maxHistory > 0
+                ? FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(maxHistory))
+                : null;
+        long cap = totalSizeCap == null ? Long.MAX_VALUE : totalSizeCap.getSize();
+
+        for (Path archive : archives) {
+            boolean expired = expiry != null && lastModified(archive).compareTo(expiry) < 0;
+            if (!expired && total <= cap) {
+                break;
+            }
+            try {
+                long size = Files.size(archive);
+                Files.delete(archive);
+                pending.remove(archive);
+                total -= size;
+            } catch (NoSuchFileException e) {
+                pending.remove(archive);
+            } catch (IOException e) {
+                addWarn("Failed to delete archived log [" + archive + "]", e);
+            }
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static boolean isSameFile(Path file, Path other) {
+        try {
+            return other != null && Files.exists(other) && Files.isSameFile(file, other);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // 다음 롤오버에서 같은 이름으로 덮어씀
+        }
+    }
+
+    /**
+     * 압축 레벨을 지정할 수 있는 GZIPOutputStream
+     */
+    private static final class LeveledGzipOutputStream extends GZIPOutputStream {
+        LeveledGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(level);
+        }
+    }
+
+    // ========================================
+    // 설정 (Getter / Setter)
+    // ========================================
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public String getFilePrefix() {
+        return filePrefix;
+    }
+
+    public void setFilePrefix(String filePrefix) {
+        this.filePrefix = filePrefix;
+    }
+
+    public FileSize getTotalSizeCap() {
+        return totalSizeCap;
+    }
+
+    public void setTotalSizeCap(FileSize totalSizeCap) {
+        this.totalSizeCap = totalSizeCap;
+    }
+
+    public int getMaxHistory() {
+        return maxHistory;
+    }
+
+    public void setMaxHistory(int maxHistory) {
+        this.maxHistory = maxHistory;
+    }
+
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    public void setCompressionLevel(int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    public Duration getStopTimeout() {
+        return stopTimeout;
+    }
+
+    public void setStopTimeout(Duration stopTimeout) {
+        this.stopTimeout = stopTimeout;
+    }
+}
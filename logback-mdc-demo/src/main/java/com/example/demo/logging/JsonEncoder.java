@@ -0,0 +1,305 @@
+package com.example.demo.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 로그 이벤트를 JSON 한 줄로 직접 인코딩하는 Encoder
+ *
+ * [기존 방식의 문제점]
+ * - PatternLayout으로 JSON 문자열 흉내 -> %msg에 따옴표/줄바꿈이 있으면 깨진 JSON 출력
+ * - %X{key}마다 MDC Map 조회 + 이벤트마다 중간 String 생성
+ *
+ * [동작 원리]
+ * 1. 스레드별로 재사용하는 바이트 버퍼에 필드를 UTF-8로 직접 기록 (JSON 이스케이프 포함)
+ * 2. MDC는 Map을 한 번 순회하며 모든 항목을 최상위 필드로 출력
+ * 3. 예외가 있으면 스택 트레이스를 "exception" 필드로 출력
+ * 4. Encoder 규약상 마지막에 byte[] 하나만 복사해서 반환
+ *
+ * [출력 예시]
+ * {"timestamp":"2024-01-01 12:00:00.123","level":"INFO","requestId":"01HN...","userId":"anonymous",
+ *  "logger":"com.example.demo.service.OrderService","thread":"http-nio-8080-exec-1","message":"..."}
+ *
+ * [설정 예시]
+ * <encoder class="com.example.demo.logging.JsonEncoder"/>
+ */
+public class JsonEncoder extends EncoderBase<ILoggingEvent> {
+
+    private static final String TIMESTAMP_PATTERN = "yyyy-MM-dd HH:mm:ss";
+
+    // 고정 필드명과 겹치는 MDC 키는 출력하지 않음 (중복 키로 JSON이 모호해지는 것 방지)
+    // + 로그 처리용 내부 MDC 키 (테일 샘플링 버퍼 id)
+    private static final Set<String> RESERVED_FIELDS = Set.of("timestamp", "level", "logger", "thread",
+            "message", "exception", TailSamplingTurboFilter.BUFFER_ID_KEY);
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    // 이 크기 이상으로 커진 버퍼는 재사용하지 않음 (큰 스택 트레이스 1건으로 메모리가 계속 점유되지 않도록)
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private final ThreadLocal<ByteBuf> buffers = ThreadLocal.withInitial(ByteBuf::new);
+
+    private boolean includeMdc = true;
+    private boolean includeThreadName = true;
+
+    private ZoneId zoneId = ZoneId.systemDefault();
+    private DateTimeFormatter secondFormatter = DateTimeFormatter.ofPattern(TIMESTAMP_PATTERN).withZone(zoneId);
+
+    // 같은 초에 찍힌 이벤트는 "yyyy-MM-dd HH:mm:ss" 부분을 다시 포맷하지 않음
+    private volatile CachedSecond cachedSecond = new CachedSecond(Long.MIN_VALUE, new byte[0]);
+
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        ByteBuf buf = buffers.get();
+        buf.reset();
+
+        buf.writeAscii("{\"timestamp\":\"");
+        writeTimestamp(buf, event.getTimeStamp());
+        buf.writeAscii("\",\"level\":\"");
+        buf.writeAscii(event.getLevel().levelStr);
+        buf.write('"');
+
+        if (includeMdc) {
+            writeMdc(buf, event.getMDCPropertyMap());
+        }
+
+        writeStringField(buf, "logger", event.getLoggerName());
+        if (includeThreadName) {
+            writeStringField(buf, "thread", event.getThreadName());
+        }
+        writeStringField(buf, "message", event.getFormattedMessage());
+
+        IThrowableProxy throwableProxy = event.getThrowableProxy();
+        if (throwableProxy != null) {
+            // 예외 경로에서만 스택 트레이스 문자열 생성
+            writeStringField(buf, "exception", ThrowableProxyUtil.asString(throwableProxy));
+        }
+
+        buf.writeAscii("}\n");
+
+        byte[] result = buf.toByteArray();
+        if (buf.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+            buffers.remove();
+        }
+        return result;
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    private void writeMdc(ByteBuf buf, Map<String, String> mdc) {
+        if (mdc == null || mdc.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, String> entry : mdc.entrySet()) {
+            if (RESERVED_FIELDS.contains(entry.getKey())) {
+                continue;
+            }
+            writeStringField(buf, entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static void writeStringField(ByteBuf buf, String name, String value) {
+        buf.writeAscii(",\"");
+        writeEscaped(buf, name);
+        buf.writeAscii("\":");
+        if (value == null) {
+            buf.writeAscii("null");
+            return;
+        }
+        buf.write('"');
+        writeEscaped(buf, value);
+        buf.write('"');
+    }
+
+    private void writeTimestamp(ByteBuf buf, long epochMillis) {
+        long epochSecond = Math.floorDiv(epochMillis, 1000L);
+        CachedSecond cached = cachedSecond;
+        if (cached.epochSecond != epochSecond) {
+            byte[] formatted = secondFormatter.format(Instant.ofEpochSecond(epochSecond))
+                    .getBytes(StandardCharsets.US_ASCII);
+            cached = new CachedSecond(epochSecond, formatted);
+            cachedSecond = cached;
+        }
+        buf.write(cached.formatted);
+
+        int millis = (int) Math.floorMod(epochMillis, 1000L);
+        buf.write('.');
+        buf.write('0' + millis / 100);
+        buf.write('0' + (millis / 10) % 10);
+        buf.write('0' + millis % 10);
+    }
+
+    /**
+     * 문자열을 JSON 이스케이프하면서 UTF-8 바이트로 바로 기록 (중간 String/byte[] 생성 없음)
+     */
+    static void writeEscaped(ByteBuf buf, String s) {
+        int length = s.length();
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                switch (c) {
+                    case '"' -> buf.writeAscii("\\\"");
+                    case '\\' -> buf.writeAscii("\\\\");
+                    case '\n' -> buf.writeAscii("\\n");
+                    case '\r' -> buf.writeAscii("\\r");
+                    case '\t' -> buf.writeAscii("\\t");
+                    case '\b' -> buf.writeAscii("\\b");
+                    case '\f' -> buf.writeAscii("\\f");
+                    default -> {
+                        if (c < 0x20) {
+                            buf.writeAscii("\\u00");
+                            buf.write(HEX[c >> 4]);
+                            buf.write(HEX[c & 0xF]);
+                        } else {
+                            buf.write(c);
+                        }
+                    }
+                }
+            } else if (c < 0x800) {
+                buf.write(0xC0 | (c >> 6));
+                buf.write(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, s.charAt(++i));
+                buf.write(0xF0 | (codePoint >> 18));
+                buf.write(0x80 | ((codePoint >> 12) & 0x3F));
+                buf.write(0x80 | ((codePoint >> 6) & 0x3F));
+                buf.write(0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // 짝이 맞지 않는 surrogate는 '?'로 대체 (String.getBytes(UTF_8)와 동일)
+                buf.write('?');
+            } else {
+                buf.write(0xE0 | (c >> 12));
+                buf.write(0x80 | ((c >> 6) & 0x3F));
+                buf.write(0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    // ========================================
+    // 설정 (Joran이 setter로 주입)
+    // ========================================
+
+    public boolean isIncludeMdc() {
+        return includeMdc;
+    }
+
+    public void setIncludeMdc(boolean includeMdc) {
+        this.includeMdc = includeMdc;
+    }
+
+    public boolean isIncludeThreadName() {
+        return includeThreadName;
+    }
+
+    public void setIncludeThreadName(boolean includeThreadName) {
+        this.includeThreadName = includeThreadName;
+    }
+
+    public String getTimeZone() {
+        return zoneId.getId();
+    }
+
+    public void setTimeZone(String timeZone) {
+        this.zoneId = ZoneId.of(timeZone);
+        this.secondFormatter = DateTimeFormatter.ofPattern(TIMESTAMP_PATTERN).withZone(zoneId);
+        this.cachedSecond = new CachedSecond(Long.MIN_VALUE, new byte[0]);
+    }
+
+    private record CachedSecond(long epochSecond, byte[] formatted) {
+    }
+
+    /**
+     * 스레드별로 재사용하는 확장 가능한 바이트 버퍼
+     */
+    static final class ByteBuf {
+
+        private static final int INITIAL_CAPACITY = 512;
+
+        private byte[] bytes = new byte[INITIAL_CAPACITY];
+        private int size;
+
+        void reset() {
+            size = 0;
+        }
+
+        int capacity() {
+            return bytes.length;
+        }
+
+        void write(int b) {
+            ensureCapacity(1);
+            bytes[size++] = (byte) b;
+        }
+
+        void write(byte[] src) {
+            ensureCapacity(src.length);
+            System.arraycopy(src, 0, bytes, size, src.length);
+            size += src.length;
+        }
+
+        void writeAscii(String s) {
+            int length = s.length();
+            ensureCapacity(length);
+            for (int i = 0; i < length; i++) {
+                bytes[size++] = (byte) s.charAt(i);
+            }
+        }
+
+        void writeInt(int v) {
+            ensureCapacity(4);
+            putInt(size, v);
+            size += 4;
+        }
+
+        void writeLong(long v) {
+            writeInt((int) (v >>> 32));
+            writeInt((int) v);
+        }
+
+        /**
+         * 이미 기록한 위치의 int 값을 덮어씀 (길이 prefix를 나중에 채울 때 사용)
+         */
+        void setInt(int position, int v) {
+            putInt(position, v);
+        }
+
+        int size() {
+            return size;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+
+        private void putInt(int position, int v) {
+            bytes[position] = (byte) (v >>> 24);
+            bytes[position + 1] = (byte) (v >>> 16);
+            bytes[position + 2] = (byte) (v >>> 8);
+            bytes[position + 3] = (byte) v;
+        }
+
+        private void ensureCapacity(int additional) {
+            if (size + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additional));
+            }
+        }
+    }
+}
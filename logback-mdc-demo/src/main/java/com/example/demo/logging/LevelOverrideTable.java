@@ -0,0 +1,177 @@
+package com.example.demo.logging;
+
+import ch.qos.logback.classic.Level;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * MDC 값별 로그 레벨 오버라이드 테이블
+ *
+ * [핵심 포인트]
+ * - 읽기(로그 호출마다)는 락 없이 volatile 참조 하나만 읽음
+ * - 쓰기(관리자 요청)는 드물기 때문에 synchronized로 새 테이블을 만들어 통째로 교체 (Copy-on-Write)
+ * - 오버라이드가 하나도 없으면 읽기 경로는 빈 배열 확인으로 끝남
+ * - 오버라이드마다 만료 시각이 있어, 끄는 것을 잊어도 운영 로그가 계속 DEBUG로 남지 않음
+ * - 가장 이른 만료 시각이 지나면 다음 조회에서 만료된 항목을 정리
+ *   -> 모두 만료되면 다음 쓰기를 기다리지 않고 빈 테이블(isEmpty)로 돌아감
+ *
+ * [구조]
+ * - MDC 키(userId, requestId 등)마다 "MDC 값 -> 오버라이드" Map
+ * - 오버라이드가 걸린 MDC 키만 배열에 들어 있으므로, 키가 하나면 로그 호출당 Map 조회도 1번
+ */
+public final class LevelOverrideTable {
+
+    private static final LevelOverrideTable SHARED = new LevelOverrideTable();
+
+    /** 동시에 유지할 수 있는 최대 오버라이드 수 (실수로 대량 등록하는 것 방지) */
+    public static final int MAX_OVERRIDES = 1000;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public static LevelOverrideTable shared() {
+        return SHARED;
+    }
+
+    /**
+     * 현재 MDC에 해당하는 오버라이드 레벨 (없거나 만료됐으면 null)
+     * - 가장 이른 만료 시각이 지났으면 만료된 항목을 먼저 정리
+     *
+     * @param mdc MDC 조회 함수 (보통 MDC::get)
+     */
+    Level lookup(UnaryOperator<String> mdc) {
+        Snapshot current = snapshot;
+        long now = System.currentTimeMillis();
+        if (current.nextExpiryMillis <= now) {
+            current = pruneExpired(now);
+        }
+        String[] keys = current.keys;
+        for (int i = 0; i < keys.length; i++) {
+            String value = mdc.apply(keys[i]);
+            if (value == null) {
+                continue;
+            }
+            LevelOverride override = current.values[i].get(value);
+            if (override != null && override.expiresAtMillis > now) {
+                return override.level;
+            }
+        }
+        return null;
+    }
+
+    boolean isEmpty() {
+        return snapshot.keys.length == 0;
+    }
+
+    /**
+     * 만료된 항목을 뺀 테이블로 교체 (먼저 정리한 스레드가 있으면 그 결과를 사용)
+     */
+    private synchronized Snapshot pruneExpired(long nowMillis) {
+        if (snapshot.nextExpiryMillis <= nowMillis) {
+            snapshot = Snapshot.of(copyWithoutExpired(nowMillis));
+        }
+        return snapshot;
+    }
+
+    /**
+     * 오버라이드 등록 (같은 MDC 키/값이 있으면 교체)
+     *
+     * @throws IllegalStateException 새 항목인데 MAX_OVERRIDES개가 이미 등록된 경우
+     */
+    public synchronized LevelOverride put(String mdcKey, String mdcValue, Level level, long expiresAtMillis) {
+        Map<String, Map<String, LevelOverride>> table = copyWithoutExpired(System.currentTimeMillis());
+        int count = table.values().stream().mapToInt(Map::size).sum();
+        Map<String, LevelOverride> values = table.computeIfAbsent(mdcKey, k -> new HashMap<>());
+        if (!values.containsKey(mdcValue) && count >= MAX_OVERRIDES) {
+            throw new IllegalStateException("Too many log level overrides (max " + MAX_OVERRIDES + ")");
+        }
+        LevelOverride override = new LevelOverride(mdcKey, mdcValue, level, expiresAtMillis);
+        values.put(mdcValue, override);
+        snapshot = Snapshot.of(table);
+        return override;
+    }
+
+    public synchronized boolean remove(String mdcKey, String mdcValue) {
+        Map<String, Map<String, LevelOverride>> table = copyWithoutExpired(System.currentTimeMillis());
+        Map<String, LevelOverride> values = table.get(mdcKey);
+        boolean removed = values != null && values.remove(mdcValue) != null;
+        if (values != null && values.isEmpty()) {
+            table.remove(mdcKey);
+        }
+        snapshot = Snapshot.of(table);
+        return removed;
+    }
+
+    public synchronized void clear() {
+        snapshot = Snapshot.EMPTY;
+    }
+
+    /**
+     * 만료되지 않은 오버라이드 목록
+     */
+    public List<LevelOverride> list() {
+        long now = System.currentTimeMillis();
+        Snapshot current = snapshot;
+        List<LevelOverride> result = new ArrayList<>();
+        for (Map<String, LevelOverride> values : current.values) {
+            for (LevelOverride override : values.values()) {
+                if (override.expiresAtMillis > now) {
+                    result.add(override);
+                }
+            }
+        }
+        return result;
+    }
+
+    private Map<String, Map<String, LevelOverride>> copyWithoutExpired(long nowMillis) {
+        Snapshot current = snapshot;
+        Map<String, Map<String, LevelOverride>> table = new LinkedHashMap<>();
+        for (int i = 0; i < current.keys.length; i++) {
+            Map<String, LevelOverride> values = new HashMap<>();
+            for (LevelOverride override : current.values[i].values()) {
+                if (override.expiresAtMillis > nowMillis) {
+                    values.put(override.mdcValue, override);
+                }
+            }
+            if (!values.isEmpty()) {
+                table.put(current.keys[i], values);
+            }
+        }
+        return table;
+    }
+
+    public record LevelOverride(String mdcKey, String mdcValue, Level level, long expiresAtMillis) {
+    }
+
+    /**
+     * 읽기 전용 테이블 (교체만 하고 수정하지 않음)
+     *
+     * @param nextExpiryMillis 가장 먼저 만료되는 오버라이드의 만료 시각 (비어 있으면 Long.MAX_VALUE)
+     */
+    private record Snapshot(String[] keys, Map<String, LevelOverride>[] values, long nextExpiryMillis) {
+
+        @SuppressWarnings("unchecked")
+        static final Snapshot EMPTY = new Snapshot(new String[0], new Map[0], Long.MAX_VALUE);
+
+        @SuppressWarnings("unchecked")
+        static Snapshot of(Map<String, Map<String, LevelOverride>> table) {
+            String[] keys = new String[table.size()];
+            Map<String, LevelOverride>[] values = new Map[table.size()];
+            long nextExpiryMillis = Long.MAX_VALUE;
+            int i = 0;
+            for (Map.Entry<String, Map<String, LevelOverride>> entry : table.entrySet()) {
+                keys[i] = entry.getKey();
+                values[i] = Map.copyOf(entry.getValue());
+                for (LevelOverride override : values[i].values()) {
+                    nextExpiryMillis = Math.min(nextExpiryMillis, override.expiresAtMillis);
+                }
+                i++;
+            }
+            return new Snapshot(keys, values, nextExpiryMillis);
+        }
+    }
+}
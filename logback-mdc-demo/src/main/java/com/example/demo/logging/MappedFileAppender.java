@@ -0,0 +1,421 @@
+package com.example.demo.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.util.Duration;
+import ch.qos.logback.core.util.FileSize;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 메모리 맵 세그먼트에 로그를 기록하는 롤링 파일 Appender
+ *
+ * [기존 방식의 문제점]
+ * - RollingFileAppender는 OutputStream 기반
+ * - flush될 때마다 write() 시스템 콜이 발생 (immediateFlush=true면 이벤트마다)
+ *
+ * [동작 원리]
+ * 1. segmentSize 크기로 미리 확보한 파일을 MappedByteBuffer로 매핑
+ * 2. 이벤트를 인코딩한 바이트를 버퍼에 put() -> 시스템 콜 없이 페이지 캐시에 memcpy
+ * 3. 세그먼트가 가득 차거나 날짜가 바뀌면 실제 기록 길이로 파일을 자른 뒤 다음 세그먼트로 전환
+ * 4. forceInterval마다 백그라운드에서 force() 호출 -> 디스크 반영 주기 보장
+ * 5. archiver가 설정되어 있으면 닫힌 세그먼트를 넘겨 백그라운드에서 압축/보관 정리
+ *
+ * [세그먼트 열기 실패] (디스크 가득 참, 매핑 실패 등)
+ * - 열기에 실패한 동안의 이벤트는 버리고 droppedEvents로 집계
+ * - 다음 이벤트에서 다시 열기를 시도 (실패할수록 간격을 100ms -> 최대 30초까지 늘림)
+ * - 실패할 때마다 지금까지 버린 이벤트 수를 ERROR 상태 메시지로 알리고, 복구되면 INFO로 알림
+ *
+ * [세그먼트 파일 이름]
+ * - {directory}/{prefix}.{yyyy-MM-dd}.{index}.log
+ * - 재시작 시 같은 날짜의 기존 세그먼트는 덮어쓰지 않고 다음 index부터 시작
+ *
+ * [상태가 있는 Encoder] (BinaryEncoder 등)
+ * - 세그먼트를 전환하면 새 헤더로 인코더 상태가 초기화되므로, 전환을 일으킨 이벤트는 새 세그먼트 기준으로 다시 인코딩
+ * - 인코딩은 락 밖에서 하므로 레코드 순서가 중요한 인코더는 단일 소비자 스레드(BatchingAsyncAppender) 뒤에서 사용
+ *
+ * [주의 사항]
+ * - 기록 중인 세그먼트는 segmentSize까지 0으로 채워져 있음 (tail 시 NUL 바이트가 보일 수 있음)
+ * - force() 전에 OS가 죽으면 마지막 forceInterval 동안의 로그는 유실될 수 있음
+ *   (프로세스만 죽은 경우는 페이지 캐시에 남아 있으므로 유실 없음)
+ *
+ * [설정 예시]
+ * <appender name="MMAP_FILE" class="com.example.demo.logging.MappedFileAppender">
+ *     <directory>logs</directory>
+ *     <prefix>application</prefix>
+ *     <segmentSize>64MB</segmentSize>
+ *     <forceInterval>1 second</forceInterval>
+ *     <archiver>...</archiver>
+ *     <encoder>...</encoder>
+ * </appender>
+ */
+public class MappedFileAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+    public static final long DEFAULT_SEGMENT_SIZE = 64L * 1024 * 1024;
+    public static final long DEFAULT_FORCE_INTERVAL_MILLIS = 1000;
+
+    private static final String SUFFIX = ".log";
+    private static final long MIN_REOPEN_BACKOFF_MILLIS = 100;
+    private static final long MAX_REOPEN_BACKOFF_MILLIS = 30_000;
+
+    // 설정 값 (logback-spring.xml에서 주입)
+    private Encoder<ILoggingEvent> encoder;
+    private String directory = "logs";
+    private String prefix = "application";
+    private FileSize segmentSize = new FileSize(DEFAULT_SEGMENT_SIZE);
+    private Duration forceInterval = Duration.buildByMilliseconds(DEFAULT_FORCE_INTERVAL_MILLIS);
+    private ZoneId zoneId = ZoneId.systemDefault();
+    private GzipSegmentArchiver archiver;
+
+    // 쓰기 상태 (lock으로 보호)
+    private final ReentrantLock lock = new ReentrantLock();
+    private Segment segment;
+    private long nextRollMillis;
+    private long reopenBackoffMillis;
+    private long nextReopenMillis;
+
+    // 세그먼트를 열지 못해 버린 이벤트 수 (메트릭)
+    private final LongAdder droppedEvents = new LongAdder();
+
+    // force 스레드와 공유 (쓰기 스레드는 dirty만 올림)
+    private volatile Segment forceTarget;
+    private volatile boolean dirty;
+    private ScheduledFuture<?> forceTask;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (encoder == null) {
+            addError("No encoder set for the appender named [" + name + "].");
+            return;
+        }
+        if (segmentSize.getSize() <= 0 || segmentSize.getSize() > Integer.MAX_VALUE) {
+            addError("Invalid segment size [" + segmentSize + "]. Must be between 1 byte and 2GB.");
+            return;
+        }
+
+        try {
+            Files.createDirectories(Paths.get(directory));
+            openSegment(System.currentTimeMillis(), 0);
+        } catch (IOException e) {
+            addError("Failed to open mapped segment in [" + directory + "]", e);
+            return;
+        }
+
+        long forceMillis = forceInterval.getMilliseconds();
+        if (forceMillis > 0) {
+            forceTask = context.getScheduledExecutorService()
+                    .scheduleAtFixedRate(this::forceIfDirty, forceMillis, forceMillis, TimeUnit.MILLISECONDS);
+        }
+        super.start();
+        if (archiver != null) {
+            // 이전 실행에서 압축하지 못한 세그먼트 다시 처리 (방금 연 세그먼트는 제외)
+            archiver.submitLeftovers(segment.path);
+        }
+        addInfo("Mapped segments of " + segmentSize + " in [" + directory + "], force every " + forceInterval);
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        if (forceTask != null) {
+            forceTask.cancel(false);
+        }
+
+        lock.lock();
+        try {
+            if (segment != null) {
+                writeRaw(encoder.footerBytes());
+                closeSegment();
+            }
+        } finally {
+            lock.unlock();
+        }
+        encoder.stop();
+        if (archiver != null) {
+            archiver.stop();
+        }
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (!isStarted()) {
+            return;
+        }
+
+        // 인코딩은 락 밖에서 수행 (OutputStreamAppender와 동일) -> 락 구간은 memcpy만
+        byte[] bytes = encoder.encode(event);
+        if (bytes == null || bytes.length == 0) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (segment == null) {
+                if (!reopen(event.getTimeStamp(), bytes.length)) {
+                    droppedEvents.increment();
+                    return;
+                }
+                bytes = reencode(event);
+            } else if (event.getTimeStamp() >= nextRollMillis || segment.buffer.remaining() < bytes.length) {
+                roll(event.getTimeStamp(), bytes.length);
+                bytes = reencode(event);
+            }
+            if (bytes == null || bytes.length == 0) {
+                return;
+            }
+            if (segment.buffer.remaining() < bytes.length) {
+                droppedEvents.increment();
+                addWarn("Event of " + bytes.length + " bytes does not fit in a new segment of [" + name + "]. Dropped.");
+                return;
+            }
+            segment.buffer.put(bytes);
+            dirty = true;
+        } catch (IOException e) {
+            droppedEvents.increment();
+            openFailed(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 버린 이벤트 수 (세그먼트를 열지 못한 동안)
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    // ========================================
+    // 세그먼트 관리 (lock 보유 상태에서 호출)
+    // ========================================
+
+    private void roll(long timestamp, int required) throws IOException {
+        writeRaw(encoder.footerBytes());
+        Path closed = segment.path;
+        closeSegment();
+        if (archiver != null) {
+            archiver.submit(closed);
+        }
+        openSegment(timestamp, required);
+    }
+
+    /**
+     * 새 세그먼트를 연 뒤 이벤트를 다시 인코딩
+     * - 새 세그먼트의 headerBytes()가 인코더 상태를 초기화할 수 있음 (BinaryEncoder의 사전)
+     *   -> 이전 세그먼트 기준으로 인코딩한 바이트를 그대로 쓰면 새 파일에서 디코딩할 수 없음
+     * - 다시 인코딩한 결과가 더 길어 들어가지 않으면 그 크기로 한 번 더 전환
+     */
+    private byte[] reencode(ILoggingEvent event) throws IOException {
+        byte[] bytes = encoder.encode(event);
+        if (bytes != null && segment.buffer.remaining() < bytes.length) {
+            roll(event.getTimeStamp(), bytes.length);
+            bytes = encoder.encode(event);
+        }
+        return bytes;
+    }
+
+    /**
+     * 열기에 실패했던 세그먼트를 다시 열기 (재시도 간격 전이면 바로 false)
+     */
+    private boolean reopen(long timestamp, int required) {
+        if (System.currentTimeMillis() < nextReopenMillis) {
+            return false;
+        }
+        try {
+            openSegment(timestamp, required);
+        } catch (IOException e) {
+            openFailed(e);
+            return false;
+        }
+        addInfo("Reopened mapped segment [" + segment.path + "]. "
+                + droppedEvents.sum() + " event(s) dropped so far.");
+        reopenBackoffMillis = 0;
+        nextReopenMillis = 0;
+        return true;
+    }
+
+    private void openFailed(IOException e) {
+        reopenBackoffMillis = reopenBackoffMillis == 0
+                ? MIN_REOPEN_BACKOFF_MILLIS
+                : Math.min(reopenBackoffMillis * 2, MAX_REOPEN_BACKOFF_MILLIS);
+        nextReopenMillis = System.currentTimeMillis() + reopenBackoffMillis;
+        addError("Failed to open mapped segment in [" + directory + "] for [" + name + "]. "
+                + "Events are dropped until the next attempt in " + reopenBackoffMillis + " ms ("
+                + droppedEvents.sum() + " dropped so far).", e);
+    }
+
+    /**
+     * 새 세그먼트 파일을 만들고 segmentSize(이벤트가 더 크면 그 크기)만큼 매핑
+     */
+    private void openSegment(long timestamp, int required) throws IOException {
+        LocalDate date = Instant.ofEpochMilli(timestamp).atZone(zoneId).toLocalDate();
+        Path path = Paths.get(directory, prefix + "." + date + "." + nextIndex(date) + SUFFIX);
+        // headerBytes()는 인코더 상태를 바꿀 수 있으므로 세그먼트마다 한 번만 호출 (길이 측정용으로 따로 호출하지 않음)
+        byte[] header = encoder.headerBytes();
+        long size = Math.max(segmentSize.getSize(), required + (header == null ? 0 : header.length));
+
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            segment = new Segment(path, channel, buffer);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        forceTarget = segment;
+        nextRollMillis = date.plusDays(1).atStartOfDay(zoneId).toInstant().toEpochMilli();
+        writeRaw(header);
+    }
+
+    /**
+     * 남은 변경분을 디스크에 반영하고, 실제 기록 길이로 파일을 잘라 0 패딩 제거
+     */
+    private void closeSegment() {
+        Segment closing = segment;
+        segment = null;
+        forceTarget = null;
+
+        closing.buffer.force();
+        try (FileChannel channel = closing.channel) {
+            channel.truncate(closing.buffer.position());
+        } catch (IOException e) {
+            // 매핑이 살아 있으면 truncate를 허용하지 않는 OS(Windows)에서는 0 패딩이 남음
+            addWarn("Failed to truncate mapped segment [" + closing.path + "]", e);
+        }
+    }
+
+    private void writeRaw(byte[] bytes) {
+        if (bytes == null || bytes.length == 0 || segment == null) {
+            return;
+        }
+        if (segment.buffer.remaining() >= bytes.length) {
+            segment.buffer.put(bytes);
+            dirty = true;
+        }
+    }
+
+    /**
+     * 같은 날짜의 기존 세그먼트 중 가장 큰 index + 1
+     */
+    private int nextIndex(LocalDate date) throws IOException {
+        String datePrefix = prefix + "." + date + ".";
+        int next = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(Paths.get(directory), datePrefix + "*")) {
+            for (Path existing : stream) {
+                String fileName = existing.getFileName().toString();
+                int end = fileName.indexOf('.', datePrefix.length());
+                if (end < 0) {
+                    continue;
+                }
+                try {
+                    next = Math.max(next, Integer.parseInt(fileName.substring(datePrefix.length(), end)) + 1);
+                } catch (NumberFormatException ignored) {
+                    // 다른 규칙의 파일은 무시
+                }
+            }
+        }
+        return next;
+    }
+
+    /**
+     * 주기적 force (Logback 공용 스케줄러 스레드)
+     * - force()는 버퍼 position을 바꾸지 않으므로 쓰기 스레드와 락 없이 병행 가능
+     */
+    private void forceIfDirty() {
+        Segment target = forceTarget;
+        if (!dirty || target == null) {
+            return;
+        }
+        dirty = false;
+        try {
+            target.buffer.force();
+        } catch (RuntimeException e) {
+            addError("Failed to force mapped segment [" + target.path + "]", e);
+        }
+    }
+
+    private record Segment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+    }
+
+    // ========================================
+    // 설정 (Getter / Setter)
+    // ========================================
+
+    public Encoder<ILoggingEvent> getEncoder() {
+        return encoder;
+    }
+
+    public void setEncoder(Encoder<ILoggingEvent> encoder) {
+        this.encoder = encoder;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public void setPrefix(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public FileSize getSegmentSize() {
+        return segmentSize;
+    }
+
+    public void setSegmentSize(FileSize segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    public Duration getForceInterval() {
+        return forceInterval;
+    }
+
+    public void setForceInterval(Duration forceInterval) {
+        this.forceInterval = forceInterval;
+    }
+
+    public GzipSegmentArchiver getArchiver() {
+        return archiver;
+    }
+
+    public void setArchiver(GzipSegmentArchiver archiver) {
+        this.archiver = archiver;
+    }
+
+    public String getTimeZone() {
+        return zoneId.getId();
+    }
+
+    public void setTimeZone(String timeZone) {
+        this.zoneId = ZoneId.of(timeZone);
+    }
+}
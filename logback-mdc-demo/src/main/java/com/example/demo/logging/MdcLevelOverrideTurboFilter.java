@@ -0,0 +1,65 @@
+package com.example.demo.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * MDC 값(userId, requestId 등)별로 로그 레벨을 바꾸는 TurboFilter
+ *
+ * [기존 방식의 문제점]
+ * - 운영(prod)에서 특정 사용자 한 명의 DEBUG 로그가 필요해도
+ *   logback-spring.xml이나 로거 레벨을 바꾸면 모든 요청의 로그가 같이 늘어남
+ *
+ * [동작 원리]
+ * 1. LevelOverrideTable에 "MDC 키 = 값 -> 레벨" 오버라이드를 등록 (LogLevelOverrideEndpoint)
+ * 2. 로그 호출마다 (LoggingEvent 생성 전) 현재 스레드 MDC 값으로 테이블 조회
+ * 3. 일치하는 오버라이드가 있으면 로거 레벨 대신 오버라이드 레벨로 판정
+ *    - 로거 레벨로는 꺼져 있지만 오버라이드로 켜짐 -> ACCEPT
+ *    - 로거 레벨로는 켜져 있지만 오버라이드로 꺼짐 -> DENY
+ *    - 판정이 같으면 NEUTRAL (뒤의 TailSamplingTurboFilter 등이 평소대로 동작)
+ *
+ * [비용]
+ * - 오버라이드가 없을 때: volatile 읽기 + 배열 길이 확인
+ * - 오버라이드가 있을 때: 시각 조회 1번 + 오버라이드가 걸린 MDC 키마다 MDC.get 1번 + Map 조회 1번
+ *   (만료된 오버라이드는 조회 시 정리되므로, 모두 만료되면 다시 "없을 때" 비용으로 돌아감)
+ *
+ * [설정 예시]
+ * TurboFilter는 선언 순서대로 실행되므로 TailSamplingTurboFilter보다 먼저 선언
+ * (먼저 ACCEPT한 이벤트가 테일 샘플링 버퍼에 중복 보관되지 않도록)
+ * <turboFilter class="com.example.demo.logging.MdcLevelOverrideTurboFilter"/>
+ */
+public class MdcLevelOverrideTurboFilter extends TurboFilter {
+
+    private LevelOverrideTable table = LevelOverrideTable.shared();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || table.isEmpty()) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Level override = table.lookup(MDC::get);
+        if (override == null) {
+            return FilterReply.NEUTRAL;
+        }
+
+        boolean enabledByOverride = level.isGreaterOrEqual(override);
+        boolean enabledByLogger = level.isGreaterOrEqual(logger.getEffectiveLevel());
+        if (enabledByOverride == enabledByLogger) {
+            return FilterReply.NEUTRAL;
+        }
+        return enabledByOverride ? FilterReply.ACCEPT : FilterReply.DENY;
+    }
+
+    LevelOverrideTable getTable() {
+        return table;
+    }
+
+    void setTable(LevelOverrideTable table) {
+        this.table = table;
+    }
+}
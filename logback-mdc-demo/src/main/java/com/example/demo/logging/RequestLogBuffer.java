@@ -0,0 +1,119 @@
+package com.example.demo.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+
+import java.util.Arrays;
+
+/**
+ * 한 요청 동안 출력되지 않은 로그 이벤트를 보관하는 고정 크기 링 버퍼
+ *
+ * [핵심 포인트]
+ * - TailSamplingTurboFilter.begin()으로 생성, 요청 종료 시 complete()를 반드시 한 번 호출
+ * - 같은 요청의 @Async 스레드에서도 이벤트가 들어오므로 add/complete는 동기화
+ * - 가득 차면 가장 오래된 이벤트부터 덮어쓰고, 출력 시 덮어쓴 건수를 WARN 한 줄로 알림
+ */
+public final class RequestLogBuffer {
+
+    private final TailSamplingTurboFilter filter;
+    private final String id;
+    private final String requestId;
+    private final ILoggingEvent[] ring;
+    private final boolean sampled;
+
+    private int next;
+    private int size;
+    private long overwritten;
+    private boolean errorLogged;
+    private boolean completed;
+
+    RequestLogBuffer(TailSamplingTurboFilter filter, String id, String requestId, int capacity, boolean sampled) {
+        this.filter = filter;
+        this.id = id;
+        this.requestId = requestId;
+        this.ring = new ILoggingEvent[capacity];
+        this.sampled = sampled;
+    }
+
+    /**
+     * 서버가 발급한 버퍼 id (요청마다 고유, MDC의 TailSamplingTurboFilter.BUFFER_ID_KEY 값)
+     */
+    public String getId() {
+        return id;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    synchronized void add(ILoggingEvent event) {
+        if (completed) {
+            return;
+        }
+        if (size == ring.length) {
+            overwritten++;
+        } else {
+            size++;
+        }
+        ring[next] = event;
+        next = (next + 1) % ring.length;
+    }
+
+    synchronized void markError() {
+        errorLogged = true;
+    }
+
+    /**
+     * 요청 종료: 실패/샘플링 대상이면 보관한 이벤트를 순서대로 출력, 아니면 버림
+     *
+     * @param status 응답 상태 코드
+     * @param failed 요청 처리 중 예외가 전파되었는지 여부
+     * @return 출력했으면 true
+     */
+    public boolean complete(int status, boolean failed) {
+        ILoggingEvent[] events;
+        long dropped;
+        boolean replay;
+        synchronized (this) {
+            if (completed) {
+                return false;
+            }
+            completed = true;
+            replay = failed || errorLogged || sampled || filter.isErrorStatus(status);
+            events = replay ? drain() : null;
+            dropped = overwritten;
+        }
+        filter.release(this, replay, dropped);
+
+        if (!replay || events.length == 0) {
+            return false;
+        }
+        LoggerContext context = (LoggerContext) filter.getContext();
+        if (dropped > 0) {
+            Logger logger = context.getLogger(RequestLogBuffer.class);
+            LoggingEvent notice = new LoggingEvent(Logger.class.getName(), logger, Level.WARN,
+                    "[TailSampling] requestId {}: {} earlier buffered events were overwritten",
+                    null, new Object[]{requestId, dropped});
+            notice.setMDCPropertyMap(events[0].getMDCPropertyMap());
+            logger.callAppenders(notice);
+        }
+        for (ILoggingEvent event : events) {
+            // 레벨 검사/TurboFilter를 다시 거치지 않고 Appender로 바로 전달
+            context.getLogger(event.getLoggerName()).callAppenders(event);
+        }
+        return true;
+    }
+
+    private ILoggingEvent[] drain() {
+        ILoggingEvent[] events = new ILoggingEvent[size];
+        int start = (next - size + ring.length) % ring.length;
+        for (int i = 0; i < size; i++) {
+            events[i] = ring[(start + i) % ring.length];
+        }
+        Arrays.fill(ring, null);
+        return events;
+    }
+}
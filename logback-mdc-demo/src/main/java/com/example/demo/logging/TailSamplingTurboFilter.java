@@ -0,0 +1,229 @@
+package com.example.demo.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 단위 테일 샘플링 TurboFilter
+ *
+ * [기존 방식의 문제점]
+ * - prod는 root가 WARN -> 요청이 실패해도 그 요청의 INFO 로그(OrderService 처리 흐름)가 남지 않음
+ * - root를 INFO로 내리면 전체 로그량을 감당할 수 없음
+ *
+ * [동작 원리]
+ * 1. MdcLoggingFilter가 요청 시작 시 begin(requestId)로 요청별 링 버퍼 생성
+ *    - 버퍼마다 서버가 만든 고유 id를 발급하고, 요청 MDC의 BUFFER_ID_KEY에 설정
+ *    - requestId는 클라이언트 헤더(X-Request-Id) 값이라 동시 요청끼리 겹칠 수 있으므로 키로 쓰지 않음
+ * 2. 로거 레벨 때문에 버려질 이벤트(captureLevel 이상)를 이 필터가 가로채 요청 버퍼에 보관
+ *    - 버퍼는 MDC의 버퍼 id로 찾으므로 MDC가 전파된 @Async 스레드의 로그도 같은 버퍼에 모임
+ *    - 버퍼가 가득 차면 가장 오래된 이벤트부터 덮어씀 (요청당 메모리 상한 = capacity)
+ * 3. 요청 종료 시 RequestLogBuffer.complete() 호출
+ *    - 응답 상태 >= minErrorStatus, 예외 발생, 요청 중 ERROR 로그 발생, 또는 sampleRate 확률에 걸리면
+ *      보관한 이벤트를 원래 시각/스레드/MDC 그대로 Appender에 출력
+ *    - 그 외에는 버퍼를 버림 (출력 비용 없음)
+ *
+ * [비용]
+ * - captureLevel 미만(DEBUG/TRACE) 호출: 레벨 비교 1번 후 바로 반환
+ * - 버려질 INFO 호출: MDC 조회 + Map 조회 + LoggingEvent 1개 생성 (메시지 포맷은 하지 않음)
+ *
+ * [설정 예시]
+ * <turboFilter class="com.example.demo.logging.TailSamplingTurboFilter">
+ *     <captureLevel>INFO</captureLevel>
+ *     <capacity>256</capacity>
+ *     <sampleRate>0.01</sampleRate>
+ *     <minErrorStatus>500</minErrorStatus>
+ * </turboFilter>
+ */
+public class TailSamplingTurboFilter extends TurboFilter {
+
+    private static final String FQCN = Logger.class.getName();
+
+    /**
+     * 요청 버퍼 id를 담는 MDC 키 (내부용, JsonEncoder/BinaryEncoder는 출력하지 않음)
+     */
+    public static final String BUFFER_ID_KEY = "tailBufferId";
+
+    // LoggerContext당 하나만 사용 (MdcLoggingFilter가 static으로 접근)
+    private static volatile TailSamplingTurboFilter active;
+
+    // 설정 값 (logback-spring.xml에서 주입)
+    private Level captureLevel = Level.INFO;
+    private int capacity = 256;
+    private int maxActiveRequests = 10_000;
+    private double sampleRate = 0.0;
+    private int minErrorStatus = 500;
+
+    // 버퍼 id -> 요청 버퍼
+    private final Map<String, RequestLogBuffer> buffers = new ConcurrentHashMap<>();
+    private final AtomicLong nextBufferId = new AtomicLong();
+
+    // 메트릭
+    private final LongAdder replayedRequests = new LongAdder();
+    private final LongAdder discardedRequests = new LongAdder();
+    private final LongAdder overwrittenEvents = new LongAdder();
+
+    @Override
+    public void start() {
+        if (capacity < 1) {
+            addError("capacity must be positive but was " + capacity);
+            return;
+        }
+        active = this;
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        if (active == this) {
+            active = null;
+        }
+        buffers.clear();
+    }
+
+    /**
+     * 요청 시작: 요청별 버퍼 생성 (필터가 설치되지 않았거나 동시 요청 상한을 넘으면 null)
+     * - 호출한 쪽은 반환된 버퍼의 getId()를 요청 MDC의 BUFFER_ID_KEY로 설정해야 함
+     */
+    public static RequestLogBuffer begin(String requestId) {
+        TailSamplingTurboFilter filter = active;
+        if (filter == null || requestId == null || filter.buffers.size() >= filter.maxActiveRequests) {
+            return null;
+        }
+        boolean sampled = filter.sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < filter.sampleRate;
+        String id = Long.toString(filter.nextBufferId.incrementAndGet(), Character.MAX_RADIX);
+        RequestLogBuffer buffer = new RequestLogBuffer(filter, id, requestId, filter.capacity, sampled);
+        filter.buffers.put(id, buffer);
+        return buffer;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // 레벨이 없는 호출(isXxxEnabled 내부 등)이나 DEBUG/TRACE는 바로 통과
+        if (level == null || !level.isGreaterOrEqual(captureLevel)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        boolean enabled = level.isGreaterOrEqual(logger.getEffectiveLevel());
+        if (enabled && level.levelInt < Level.ERROR_INT) {
+            // 원래대로 출력되는 INFO/WARN -> 관여하지 않음
+            return FilterReply.NEUTRAL;
+        }
+
+        RequestLogBuffer buffer = currentBuffer();
+        if (buffer == null) {
+            return FilterReply.NEUTRAL;
+        }
+
+        if (enabled) {
+            // 요청 중 ERROR 로그 -> 응답 상태와 무관하게 보관한 로그를 출력
+            buffer.markError();
+            return FilterReply.NEUTRAL;
+        }
+
+        if (format == null) {
+            // isInfoEnabled() 같은 레벨 확인: 보관 대상이므로 true로 답해 실제 로그 호출이 일어나게 함
+            return FilterReply.ACCEPT;
+        }
+
+        LoggingEvent event = new LoggingEvent(FQCN, logger, level, format, t, params);
+        if (marker != null) {
+            event.addMarker(marker);
+        }
+        DeferredFormatting.prepare(event);
+        buffer.add(event);
+
+        // 레벨 검사에 맡김 -> 지금은 출력되지 않음
+        return FilterReply.NEUTRAL;
+    }
+
+    private RequestLogBuffer currentBuffer() {
+        String id = MDC.get(BUFFER_ID_KEY);
+        return id == null ? null : buffers.get(id);
+    }
+
+    void release(RequestLogBuffer buffer, boolean replayed, long overwritten) {
+        buffers.remove(buffer.getId(), buffer);
+        (replayed ? replayedRequests : discardedRequests).increment();
+        overwrittenEvents.add(overwritten);
+    }
+
+    boolean isErrorStatus(int status) {
+        return status >= minErrorStatus;
+    }
+
+    // ========================================
+    // 메트릭
+    // ========================================
+
+    public int getActiveRequests() {
+        return buffers.size();
+    }
+
+    public long getReplayedRequests() {
+        return replayedRequests.sum();
+    }
+
+    public long getDiscardedRequests() {
+        return discardedRequests.sum();
+    }
+
+    public long getOverwrittenEvents() {
+        return overwrittenEvents.sum();
+    }
+
+    // ========================================
+    // 설정 (Getter / Setter)
+    // ========================================
+
+    public Level getCaptureLevel() {
+        return captureLevel;
+    }
+
+    public void setCaptureLevel(Level captureLevel) {
+        this.captureLevel = captureLevel;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getMaxActiveRequests() {
+        return maxActiveRequests;
+    }
+
+    public void setMaxActiveRequests(int maxActiveRequests) {
+        this.maxActiveRequests = maxActiveRequests;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public int getMinErrorStatus() {
+        return minErrorStatus;
+    }
+
+    public void setMinErrorStatus(int minErrorStatus) {
+        this.minErrorStatus = minErrorStatus;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.demo.mdc;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * MDC를 모든 단계에 전파하는 CompletableFuture
+ *
+ * [기존 방식의 문제점]
+ * - CompletableFuture.supplyAsync()는 다른 스레드에서 실행되므로 MDC가 비어 있음
+ * - 람다마다 MDC.getCopyOfContextMap() / setContextMap() / clear()를 직접 작성해야 함
+ * - thenApplyAsync() 등 후속 단계마다 같은 코드를 반복해야 함
+ *
+ * [동작 원리]
+ * 1. supplyAsync/runAsync 호출 시점에 MdcSnapshot을 한 번만 캡처
+ * 2. 이후 생성되는 모든 단계(thenApply, thenCompose, ...)가 같은 스냅샷을 공유
+ *    - newIncompleteFuture() 재정의로 후속 Future도 MdcCompletableFuture가 됨
+ *    - defaultExecutor() 재정의로 *Async 단계도 스냅샷을 설정한 채 실행됨
+ * 3. 비동기 아닌 단계(thenApply 등)는 이전 단계를 완료한 스레드에서 실행되므로
+ *    이미 스냅샷이 설정된 상태에서 실행됨
+ *
+ * [주의]
+ * - thenApplyAsync(fn, otherExecutor)처럼 Executor를 직접 넘기면 전파되지 않음
+ *   (Executor 생략 시 기본 Executor가 사용되며 MDC 전파됨)
+ *
+ * [사용 예시]
+ * MdcCompletableFuture.supplyAsync(() -> load(orderId), executor)
+ *         .thenApplyAsync(this::enrich)   // MDC 유지
+ *         .thenApply(this::toResponse);   // MDC 유지
+ */
+public class MdcCompletableFuture<T> extends CompletableFuture<T> {
+
+    private final MdcSnapshot snapshot;
+    private final Executor executor;
+
+    private MdcCompletableFuture(MdcSnapshot snapshot, Executor executor) {
+        this.snapshot = snapshot;
+        this.executor = executor;
+    }
+
+    /**
+     * 현재 MDC를 캡처하여 executor에서 supplier 실행
+     */
+    public static <U> MdcCompletableFuture<U> supplyAsync(Supplier<U> supplier, Executor executor) {
+        MdcSnapshot snapshot = MdcSnapshot.capture();
+        MdcCompletableFuture<U> future = new MdcCompletableFuture<>(snapshot, snapshot.bind(executor));
+        future.defaultExecutor().execute(() -> {
+            try {
+                future.complete(supplier.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 현재 MDC를 캡처하여 executor에서 runnable 실행
+     */
+    public static MdcCompletableFuture<Void> runAsync(Runnable runnable, Executor executor) {
+        return supplyAsync(() -> {
+            runnable.run();
+            return null;
+        }, executor);
+    }
+
+    /**
+     * 이 체인이 공유하는 MDC 스냅샷
+     */
+    public MdcSnapshot snapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public <U> CompletableFuture<U> newIncompleteFuture() {
+        return new MdcCompletableFuture<>(snapshot, executor);
+    }
+
+    @Override
+    public Executor defaultExecutor() {
+        return executor;
+    }
+}
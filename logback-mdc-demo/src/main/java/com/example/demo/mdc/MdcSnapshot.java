@@ -0,0 +1,184 @@
+package com.example.demo.mdc;
+
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import org.slf4j.MDC;
+import org.slf4j.spi.MDCAdapter;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 특정 시점의 MDC 값을 담은 불변 스냅샷
+ *
+ * [사용 목적]
+ * - 요청 스레드의 MDC를 한 번만 캡처한 뒤, 여러 비동기 작업/단계에서 같은 객체를 공유
+ * - 단계마다 MDC.getCopyOfContextMap()으로 HashMap을 새로 복사하지 않아도 됨
+ *
+ * [동작 원리]
+ * 1. capture()  : 현재 스레드의 MDC를 캡처 (이후 절대 변경되지 않음)
+ * 2. install()  : 실행 스레드에 스냅샷을 설정하고, 이전 MDC를 되돌릴 Scope 반환
+ * 3. Scope.close(): 실행 전 MDC로 복원 (스레드 풀 재사용 시 값이 남지 않음)
+ *
+ * [구조 공유 (Copy-on-Write)]
+ * - Logback의 LogbackMDCAdapter는 읽기 전용 Map을 스레드별로 캐시하고,
+ *   MDC.put()/remove() 등 쓰기가 일어날 때만 새 Map을 만듦 (기존 Map은 변경되지 않음)
+ * - capture()는 이 읽기 전용 Map의 참조만 가져오므로 HashMap 복사가 없음
+ *   (같은 요청에서 MDC 변경 없이 여러 번 캡처하면 모두 같은 Map을 공유)
+ * - Logback이 아닌 MDCAdapter에서는 getCopyOfContextMap()으로 복사하여 캡처
+ *
+ * [install 시 복사가 남는 이유] (Logback 1.4 기준)
+ * - MDC.setContextMap()은 받은 Map을 스레드의 쓰기용 HashMap으로 복사하고 읽기 전용 캐시를 비움
+ *   -> 설정 후 첫 로그 이벤트가 getPropertyMap()에서 읽기 전용 Map을 한 번 더 만듦
+ * - 쓰기용 Map은 이후 MDC.put()/remove()가 그 자리에서 변경하므로 스냅샷 Map을 그대로 넣을 수 없음
+ *   (공유 Map이 다른 스레드에서 변경되거나, 불변 Map이면 put()이 실패)
+ * - 따라서 단계(스레드 전환)마다 최대 2회 복사는 남음
+ *   - 줄인 것은 캡처 쪽 복사: 여러 단계가 같은 스냅샷을 공유하므로 단계 수만큼 캡처하지 않음
+ *   - 같은 스레드에서 그대로 실행되면(CallerRuns 등) 설정 자체를 생략
+ *
+ * [사용 예시]
+ * MdcSnapshot snapshot = MdcSnapshot.capture();
+ * executor.execute(snapshot.wrap(() -> log.info("requestId 유지됨")));
+ */
+public final class MdcSnapshot {
+
+    /**
+     * MdcLoggingFilter가 요청 시작 시 캡처한 스냅샷을 보관하는 요청 속성 이름
+     */
+    public static final String REQUEST_ATTRIBUTE = MdcSnapshot.class.getName() + ".REQUEST";
+
+    private static final MdcSnapshot EMPTY = new MdcSnapshot(Collections.emptyMap());
+
+    private final Map<String, String> context;
+
+    private MdcSnapshot(Map<String, String> context) {
+        this.context = context;
+    }
+
+    /**
+     * 현재 스레드의 MDC 캡처
+     * - Logback 사용 시 복사 없이 읽기 전용 Map 참조만 캡처
+     */
+    public static MdcSnapshot capture() {
+        Map<String, String> current = currentContextMap();
+        if (current == null || current.isEmpty()) {
+            return EMPTY;
+        }
+        return new MdcSnapshot(current);
+    }
+
+    /**
+     * 이후 변경되지 않는 현재 MDC Map 반환
+     */
+    private static Map<String, String> currentContextMap() {
+        MDCAdapter adapter = MDC.getMDCAdapter();
+        if (adapter instanceof LogbackMDCAdapter logbackAdapter) {
+            return logbackAdapter.getPropertyMap();
+        }
+        Map<String, String> copy = MDC.getCopyOfContextMap();
+        return copy == null ? null : Collections.unmodifiableMap(copy);
+    }
+
+    public static MdcSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 미리 만든 Map으로 스냅샷 생성 (요청 진입점에서 MDC를 한 번에 설정할 때 사용)
+     * - 복사하지 않으므로 이후 변경되지 않는 Map(Map.of 등)만 전달해야 함
+     */
+    public static MdcSnapshot of(Map<String, String> context) {
+        return context.isEmpty() ? EMPTY : new MdcSnapshot(context);
+    }
+
+    public String get(String key) {
+        return context.get(key);
+    }
+
+    public boolean isEmpty() {
+        return context.isEmpty();
+    }
+
+    /**
+     * 읽기 전용 Map 뷰 (복사 없음)
+     */
+    public Map<String, String> asMap() {
+        return Collections.unmodifiableMap(context);
+    }
+
+    /**
+     * 현재 스레드에 스냅샷 설정
+     * - 반환된 Scope를 닫으면 설정 전 MDC로 복원됨
+     * - 호출 스레드에서 직접 실행되는 경우(CallerRuns 등)에도 원래 MDC가 보존됨
+     */
+    public Scope install() {
+        Map<String, String> previous = currentContextMap();
+        if (previous == context) {
+            // 캡처한 스레드에서 그대로 실행되는 경우 (CallerRuns 등) -> 설정 생략,
+            // 작업 중 MDC가 바뀐 경우에만 복원
+            return () -> {
+                if (currentContextMap() != previous) {
+                    apply(previous);
+                }
+            };
+        }
+        apply(context);
+        return () -> apply(previous);
+    }
+
+    /**
+     * 현재 스레드의 MDC를 이 스냅샷으로 교체 (복원 없음)
+     * - MDC.put()을 키마다 호출하는 대신 한 번에 설정 (MdcLoggingFilter 요청 시작 시)
+     * - 이전 MDC로 되돌릴 필요가 없는 진입점 전용, 종료 시 MDC.clear()로 정리
+     */
+    public void replaceCurrent() {
+        apply(context);
+    }
+
+    public Runnable wrap(Runnable task) {
+        return () -> {
+            try (Scope ignored = install()) {
+                task.run();
+            }
+        };
+    }
+
+    public <T> Supplier<T> wrap(Supplier<T> supplier) {
+        return () -> {
+            try (Scope ignored = install()) {
+                return supplier.get();
+            }
+        };
+    }
+
+    /**
+     * 이 스냅샷을 설정한 상태로 작업을 실행하는 Executor 반환
+     * - 작업 제출 시점이 아니라 이 스냅샷 기준으로 MDC가 설정됨
+     */
+    public Executor bind(Executor delegate) {
+        return task -> delegate.execute(wrap(task));
+    }
+
+    private static void apply(Map<String, String> contextMap) {
+        if (contextMap == null || contextMap.isEmpty()) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(contextMap);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MdcSnapshot" + context;
+    }
+
+    /**
+     * install()로 설정한 MDC를 되돌리는 핸들
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
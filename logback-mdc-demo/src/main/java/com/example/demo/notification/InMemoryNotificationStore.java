@@ -0,0 +1,29 @@
+package com.example.demo.notification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 메모리 알림 저장소 (기본값, 로컬 개발/테스트용)
+ * - 재기동하면 사라짐
+ * - getBatchCount()로 몇 번의 쓰기로 저장되었는지 확인 가능
+ */
+public class InMemoryNotificationStore implements NotificationStore {
+
+    private final List<Notification> notifications = new ArrayList<>();
+    private long batchCount;
+
+    @Override
+    public synchronized void saveAll(List<Notification> batch) {
+        notifications.addAll(batch);
+        batchCount++;
+    }
+
+    public synchronized List<Notification> findAll() {
+        return new ArrayList<>(notifications);
+    }
+
+    public synchronized long getBatchCount() {
+        return batchCount;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.demo.notification;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * JDBC 알림 저장소 (기본 설정은 임베디드 H2 파일 DB)
+ *
+ * [핵심 포인트]
+ * - 묶음 전체를 PreparedStatement 배치 + 트랜잭션 1개로 INSERT (행마다 커밋하지 않음)
+ * - 연결은 flush 스레드 전용으로 하나만 열어 두고 재사용
+ *   (H2 파일 DB는 마지막 연결이 닫히면 DB도 닫히므로 flush마다 다시 여는 비용을 피함)
+ * - 테이블이 없으면 기동 시 생성
+ *
+ * [설정 예시]
+ * app.notification.store=h2
+ * app.notification.jdbc-url=jdbc:h2:file:./data/notifications
+ */
+public class JdbcNotificationStore implements NotificationStore {
+
+    private static final String CREATE_TABLE = """
+            CREATE TABLE IF NOT EXISTS notification (
+                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                request_id VARCHAR(64),
+                user_id VARCHAR(128) NOT NULL,
+                message VARCHAR(4000) NOT NULL,
+                created_at TIMESTAMP NOT NULL
+            )""";
+
+    private static final String INSERT =
+            "INSERT INTO notification (request_id, user_id, message, created_at) VALUES (?, ?, ?, ?)";
+
+    private final String jdbcUrl;
+    private final String username;
+    private final String password;
+
+    private Connection connection;
+
+    public JdbcNotificationStore(String jdbcUrl, String username, String password) throws SQLException {
+        this.jdbcUrl = jdbcUrl;
+        this.username = username;
+        this.password = password;
+        Connection conn = connection();
+        try (Statement statement = conn.createStatement()) {
+            statement.execute(CREATE_TABLE);
+        }
+        conn.commit();
+    }
+
+    @Override
+    public void saveAll(List<Notification> batch) throws SQLException {
+        Connection conn = connection();
+        try (PreparedStatement insert = conn.prepareStatement(INSERT)) {
+            for (Notification notification : batch) {
+                insert.setString(1, notification.requestId());
+                insert.setString(2, notification.userId());
+                insert.setString(3, notification.message());
+                insert.setTimestamp(4, Timestamp.from(notification.createdAt()));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+            conn.commit();
+        } catch (SQLException e) {
+            rollbackAndDiscard(conn);
+            throw e;
+        }
+    }
+
+    private Connection connection() throws SQLException {
+        if (connection == null || connection.isClosed()) {
+            connection = DriverManager.getConnection(jdbcUrl, username, password);
+            connection.setAutoCommit(false);
+        }
+        return connection;
+    }
+
+    /**
+     * 실패한 연결은 버리고 다음 재시도에서 새로 연결
+     */
+    private void rollbackAndDiscard(Connection conn) {
+        try {
+            conn.rollback();
+        } catch (SQLException ignored) {
+            // 연결 자체가 끊긴 경우
+        }
+        try {
+            conn.close();
+        } catch (SQLException ignored) {
+            // 이미 닫힌 경우
+        }
+        connection = null;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (connection != null) {
+            connection.close();
+            connection = null;
+        }
+    }
+}
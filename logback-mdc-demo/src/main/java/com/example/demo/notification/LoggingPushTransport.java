@@ -0,0 +1,17 @@
+package com.example.demo.notification;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * 로컬 개발/테스트용 푸시 발송 수단 (실제로 보내지 않고 로그만 남김)
+ */
+@Slf4j
+public class LoggingPushTransport implements PushTransport {
+
+    @Override
+    public void push(String userId, List<String> messages) {
+        log.debug("[Push] 푸시 발송 - userId: {}, 메시지 {}건: {}", userId, messages.size(), messages);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.demo.notification;
+
+import java.time.Instant;
+
+/**
+ * 저장할 알림 1건
+ *
+ * @param requestId 알림을 만든 요청 ID (저장 후에도 로그와 연결하기 위함, 없으면 null)
+ */
+public record Notification(String requestId, String userId, String message, Instant createdAt) {
+}
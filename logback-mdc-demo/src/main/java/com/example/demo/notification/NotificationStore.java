@@ -0,0 +1,22 @@
+package com.example.demo.notification;
+
+import java.util.List;
+
+/**
+ * 알림 저장소
+ *
+ * [구현 규칙]
+ * - saveAll()은 묶음 전체를 한 번에 저장 (배치 INSERT, 가능하면 하나의 트랜잭션)
+ * - 실패하면 예외를 던짐 -> NotificationWriteBehindBuffer가 같은 묶음을 재시도
+ * - NotificationWriteBehindBuffer의 flush 스레드 하나에서만 호출됨
+ */
+public interface NotificationStore {
+
+    void saveAll(List<Notification> batch) throws Exception;
+
+    /**
+     * 저장소 자원 정리 (여러 번 호출되어도 안전해야 함)
+     */
+    default void close() throws Exception {
+    }
+}
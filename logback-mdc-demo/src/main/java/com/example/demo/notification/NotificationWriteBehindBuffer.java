@@ -0,0 +1,197 @@
+package com.example.demo.notification;
+
+import com.example.demo.config.NotificationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 알림 저장 Write-Behind 버퍼
+ *
+ * [기존 방식의 문제점]
+ * - processNotification 요청마다 saveNotification()으로 1건씩 저장 -> 알림 폭주 시 단건 INSERT 수천 번
+ *
+ * [동작 원리]
+ * 1. add(): 알림을 큐에 넣고 바로 반환 (요청 스레드는 저장을 기다리지 않음)
+ * 2. flush 스레드 1개가 큐의 알림을 모아 NotificationStore.saveAll()로 한 번에 저장
+ *    - flushSize개가 모이면 바로 저장
+ *    - 첫 알림 이후 flushInterval이 지나면 개수와 무관하게 저장
+ * 3. 저장 실패 시 같은 묶음을 지수 백오프로 maxRetries번까지 재시도
+ *
+ * [종료 시 (close)]
+ * - 새 알림을 받지 않고, 큐에 남은 알림을 flushInterval을 기다리지 않고 모두 저장한 뒤 저장소를 닫음
+ *   -> 정상 종료(SIGTERM, Spring Context 종료)에서는 이미 받은 알림이 유실되지 않음
+ * - 저장이 끝나지 않으면 flush 스레드를 인터럽트하고, 멈춘 뒤에만 저장소를 닫음
+ * - 프로세스가 강제 종료(kill -9)되면 큐에 남은 알림은 유실됨 (Write-Behind의 한계)
+ */
+@Slf4j
+public class NotificationWriteBehindBuffer implements AutoCloseable {
+
+    private static final long MAX_BACKOFF_MILLIS = 5_000;
+    private static final long CLOSE_TIMEOUT_MILLIS = 30_000;
+    private static final long INTERRUPT_TIMEOUT_MILLIS = 5_000;
+    private static final long POLL_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final NotificationStore store;
+    private final int flushSize;
+    private final long flushIntervalNanos;
+    private final int maxRetries;
+
+    private final BlockingQueue<Notification> queue;
+    private final Thread flushThread;
+    private volatile boolean running = true;
+
+    // 메트릭
+    private final LongAdder flushedNotifications = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder failedNotifications = new LongAdder();
+
+    public NotificationWriteBehindBuffer(NotificationStore store, NotificationProperties properties) {
+        this.store = store;
+        this.flushSize = Math.max(1, properties.getFlushSize());
+        this.flushIntervalNanos = properties.getFlushInterval().toNanos();
+        this.maxRetries = Math.max(0, properties.getMaxRetries());
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        this.flushThread = new Thread(this::flushLoop, "notification-flusher");
+        this.flushThread.setDaemon(true);
+        this.flushThread.start();
+    }
+
+    /**
+     * 알림 저장 요청 (저장은 나중에 묶음으로 수행)
+     *
+     * @throws TaskRejectedException 큐가 가득 찼거나 종료 중인 경우
+     */
+    public void add(Notification notification) {
+        if (!running || !queue.offer(notification)) {
+            throw new TaskRejectedException("Notification queue is full or shutting down (capacity "
+                    + (queue.size() + queue.remainingCapacity()) + ")");
+        }
+    }
+
+    // ========================================
+    // flush 스레드
+    // ========================================
+
+    private void flushLoop() {
+        List<Notification> batch = new ArrayList<>(flushSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Notification first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch);
+                save(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * flushSize개가 되거나 flushInterval이 지날 때까지 모음 (종료 중이면 기다리지 않음)
+     * - 100ms 단위로 나눠 기다리므로 close()가 남은 flushInterval만큼 기다리지 않음
+     */
+    private void fill(List<Notification> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (true) {
+            queue.drainTo(batch, flushSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= flushSize || remaining <= 0 || !running) {
+                return;
+            }
+            Notification next = queue.poll(Math.min(remaining, POLL_SLICE_NANOS), TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+            }
+        }
+    }
+
+    private void save(List<Notification> batch) throws InterruptedException {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                store.saveAll(batch);
+                flushes.increment();
+                flushedNotifications.add(batch.size());
+                log.debug("[WriteBehind] 알림 {}건 저장", batch.size());
+                return;
+            } catch (Exception e) {
+                if (attempt >= maxRetries) {
+                    failedNotifications.add(batch.size());
+                    log.error("[WriteBehind] 알림 저장 실패 - {}건 폐기 (재시도 {}회)", batch.size(), attempt, e);
+                    return;
+                }
+                long backoff = Math.min(MAX_BACKOFF_MILLIS, 100L << attempt);
+                log.warn("[WriteBehind] 알림 저장 실패 - {}건, {}ms 후 재시도: {}", batch.size(), backoff, e.toString());
+                Thread.sleep(backoff);
+            }
+        }
+    }
+
+    // ========================================
+    // 종료
+    // ========================================
+
+    /**
+     * 새 알림을 받지 않고, 큐에 남은 알림을 모두 저장한 뒤 저장소를 닫음
+     * - 시간 안에 끝나지 않으면 flush 스레드를 인터럽트하고 잠시 더 기다림
+     * - 그래도 flush 스레드가 saveAll() 안에 있으면 저장소를 닫지 않음
+     *   (JdbcNotificationStore의 Connection은 동기화되지 않으므로 사용 중에 닫으면 안 됨)
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            flushThread.join(CLOSE_TIMEOUT_MILLIS);
+            if (flushThread.isAlive()) {
+                log.warn("[WriteBehind] 종료 시간 초과 - flush 스레드 인터럽트, 저장되지 않은 알림: {}건", queue.size());
+                flushThread.interrupt();
+                flushThread.join(INTERRUPT_TIMEOUT_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            flushThread.interrupt();
+            Thread.currentThread().interrupt();
+        }
+        if (flushThread.isAlive()) {
+            log.warn("[WriteBehind] flush 스레드가 아직 저장 중 - 저장소를 닫지 않음");
+            return;
+        }
+        try {
+            store.close();
+        } catch (Exception e) {
+            log.warn("[WriteBehind] 저장소 종료 실패", e);
+        }
+    }
+
+    // ========================================
+    // 메트릭
+    // ========================================
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getFlushedNotifications() {
+        return flushedNotifications.sum();
+    }
+
+    public long getFlushes() {
+        return flushes.sum();
+    }
+
+    public long getFailedNotifications() {
+        return failedNotifications.sum();
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.demo.notification;
+
+import com.example.demo.config.PushProperties;
+import com.example.demo.mdc.MdcSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자별 메시지 합치기(coalescing)를 지원하는 푸시 알림 팬아웃 엔진
+ *
+ * [기존 방식의 문제점]
+ * - sendPushNotification() 호출마다 푸시 1건 발송, 중복 제거 없음
+ *   -> 같은 사용자에게 짧은 시간에 알림 여러 개가 오면 푸시도 여러 번 (기기/외부 API 부담)
+ *
+ * [동작 원리]
+ * 1. submit(): userId 해시로 샤드를 골라 그 샤드의 큐에 넣고 바로 반환
+ *    - 같은 사용자는 항상 같은 샤드(스레드)에서 처리 -> 전역 락 없이 사용자별 순서 보장
+ * 2. 샤드 스레드는 첫 메시지 이후 coalesceWindow 동안 큐의 메시지를 사용자별로 모음
+ * 3. 창이 끝나면 사용자별로 모인 메시지(도착 순서)를 PushTransport.push() 한 번으로 발송
+ *    - 최대 maxMessagesPerPush개씩 나누어 발송
+ *    - 발송 중에는 마지막 메시지를 보낸 요청의 MDC를 복원 (로그에서 요청과 연결)
+ *
+ * [메트릭]
+ * - getQueueDepth(shard) : 샤드별 대기 메시지 수
+ * - getCoalescingRatio() : 받은 메시지 수 / 실제 푸시 수 (1보다 클수록 많이 합쳐짐)
+ */
+@Slf4j
+public class PushFanoutEngine implements AutoCloseable {
+
+    private static final long CLOSE_TIMEOUT_MILLIS = 10_000;
+
+    private final PushTransport transport;
+    private final long coalesceWindowNanos;
+    private final int maxMessagesPerPush;
+    private final Shard[] shards;
+    private volatile boolean running = true;
+
+    // 메트릭
+    private final LongAdder submittedMessages = new LongAdder();
+    private final LongAdder pushes = new LongAdder();
+    private final LongAdder failedPushes = new LongAdder();
+
+    public PushFanoutEngine(PushTransport transport, PushProperties properties) {
+        this.transport = transport;
+        this.coalesceWindowNanos = properties.getCoalesceWindow().toNanos();
+        this.maxMessagesPerPush = Math.max(1, properties.getMaxMessagesPerPush());
+        this.shards = new Shard[Math.max(1, properties.getShards())];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard(i, properties.getQueueCapacityPerShard());
+        }
+    }
+
+    /**
+     * 푸시 알림 요청 (현재 스레드의 MDC를 발송 시점에 복원)
+     *
+     * @throws TaskRejectedException 샤드 큐가 가득 찼거나 종료 중인 경우
+     */
+    public void submit(String userId, String message) {
+        Shard shard = shards[shardOf(userId)];
+        if (!running || !shard.queue.offer(new PendingPush(userId, message, MdcSnapshot.capture()))) {
+            throw new TaskRejectedException("Push shard " + shard.index + " is full or shutting down");
+        }
+        submittedMessages.increment();
+    }
+
+    int shardOf(String userId) {
+        int h = userId.hashCode();
+        return Math.floorMod(h ^ (h >>> 16), shards.length);
+    }
+
+    /**
+     * 샤드 1개 = 전용 큐 + 전용 스레드
+     */
+    private final class Shard implements Runnable {
+
+        private final int index;
+        private final BlockingQueue<PendingPush> queue;
+        private final Thread thread;
+
+        private Shard(int index, int queueCapacity) {
+            this.index = index;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.thread = new Thread(this, "push-shard-" + index);
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        @Override
+        public void run() {
+            while (running || !queue.isEmpty()) {
+                try {
+                    PendingPush first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    Map<String, List<PendingPush>> byUser = new LinkedHashMap<>();
+                    add(byUser, first);
+                    collect(byUser);
+                    byUser.forEach(this::pushAll);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+
+        /**
+         * coalesceWindow 동안 큐의 메시지를 사용자별로 모음 (종료 중이면 기다리지 않음)
+         */
+        private void collect(Map<String, List<PendingPush>> byUser) throws InterruptedException {
+            long deadline = System.nanoTime() + coalesceWindowNanos;
+            List<PendingPush> drained = new ArrayList<>();
+            while (true) {
+                queue.drainTo(drained);
+                drained.forEach(pending -> add(byUser, pending));
+                drained.clear();
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !running) {
+                    return;
+                }
+                PendingPush next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    return;
+                }
+                add(byUser, next);
+            }
+        }
+
+        private void add(Map<String, List<PendingPush>> byUser, PendingPush pending) {
+            byUser.computeIfAbsent(pending.userId, k -> new ArrayList<>()).add(pending);
+        }
+
+        private void pushAll(String userId, List<PendingPush> pending) {
+            for (int i = 0; i < pending.size(); i += maxMessagesPerPush) {
+                push(userId, pending.subList(i, Math.min(i + maxMessagesPerPush, pending.size())));
+            }
+        }
+
+        private void push(String userId, List<PendingPush> pending) {
+            List<String> messages = pending.stream().map(PendingPush::message).toList();
+            try (MdcSnapshot.Scope ignored = pending.get(pending.size() - 1).context.install()) {
+                transport.push(userId, messages);
+                pushes.increment();
+                if (messages.size() > 1) {
+                    log.debug("[PushFanout] userId: {} - 메시지 {}건을 푸시 1건으로 합침", userId, messages.size());
+                }
+            } catch (Exception e) {
+                failedPushes.increment();
+                log.warn("[PushFanout] 푸시 발송 실패 - userId: {}, 메시지 {}건: {}", userId, messages.size(), e.toString());
+            }
+        }
+    }
+
+    // ========================================
+    // 종료
+    // ========================================
+
+    /**
+     * 새 요청을 받지 않고, 샤드 큐에 남은 메시지를 발송한 뒤 종료
+     */
+    @Override
+    public void close() {
+        running = false;
+        long deadline = System.currentTimeMillis() + CLOSE_TIMEOUT_MILLIS;
+        for (Shard shard : shards) {
+            try {
+                shard.thread.join(Math.max(1, deadline - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // ========================================
+    // 메트릭
+    // ========================================
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    public int getQueueDepth(int shard) {
+        return shards[shard].queue.size();
+    }
+
+    public long getSubmittedMessages() {
+        return submittedMessages.sum();
+    }
+
+    public long getPushes() {
+        return pushes.sum();
+    }
+
+    public long getFailedPushes() {
+        return failedPushes.sum();
+    }
+
+    /**
+     * 받은 메시지 수 / 발송한 푸시 수 (아직 발송이 없으면 1)
+     */
+    public double getCoalescingRatio() {
+        long sent = pushes.sum() + failedPushes.sum();
+        return sent == 0 ? 1.0 : (double) submittedMessages.sum() / sent;
+    }
+
+    private record PendingPush(String userId, String message, MdcSnapshot context) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.demo.notification;
+
+import java.util.List;
+
+/**
+ * 푸시 발송 수단 (FCM/APNs 클라이언트 등)
+ *
+ * [구현 규칙]
+ * - PushFanoutEngine의 샤드 스레드에서 호출됨 (같은 사용자는 항상 같은 스레드, 순서 보장)
+ * - messages는 짧은 시간 동안 같은 사용자에게 쌓인 메시지들 (도착 순서) -> 푸시 1건으로 발송
+ */
+public interface PushTransport {
+
+    void push(String userId, List<String> messages) throws Exception;
+}
@@ -1,10 +1,18 @@
 package com.example.demo.service;
 
+import com.example.demo.email.EmailDispatcher;
+import com.example.demo.email.EmailMessage;
+import com.example.demo.mdc.MdcSnapshot;
+import com.example.demo.notification.Notification;
+import com.example.demo.notification.NotificationWriteBehindBuffer;
+import com.example.demo.notification.PushFanoutEngine;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -13,55 +21,56 @@ import java.util.concurrent.CompletableFuture;
  * [핵심 개념]
  * - @Async만 사용하면 MDC가 전파되지 않음
  * - @Async("mdcTaskExecutor") 사용 시 MdcTaskDecorator에 의해 MDC 자동 전파
+ * - 이메일 발송은 EmailDispatcher에 맡기고 스레드를 점유하지 않음
+ *   (발송 완료 시점에 요청 시점의 MDC 스냅샷을 복원)
  *
  * [비교]
- * 1. sendEmailWithoutMdc() - MDC 전파 안됨
- * 2. sendEmailWithMdc() - MDC 전파됨 (MdcTaskDecorator 사용)
+ * 1. sendEmailWithoutMdc() - MDC 전파 안됨 (빈 MDC로 발송 요청)
+ * 2. sendEmailWithMdc() - MDC 전파됨 (요청 스레드 MDC를 발송 완료 시점에 복원)
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class AsyncDemoService {
 
+    private static final String EMAIL_SUBJECT = "[Demo] 알림";
+    private static final String EMAIL_BODY = "Logback + MDC 데모 이메일입니다.";
+
+    private final EmailDispatcher emailDispatcher;
+    private final NotificationWriteBehindBuffer notificationBuffer;
+    private final PushFanoutEngine pushFanoutEngine;
+
     /**
-     * MDC 전파 안되는 비동기 메서드
-     * - 기본 TaskExecutor 사용
-     * - MDC 값이 비어있음
+     * MDC 전파 안되는 이메일 발송
+     * - 빈 MDC 스냅샷으로 발송 요청 -> 완료 로그에 requestId가 비어있음
+     *
+     * [참고] 이전에는 @Async + Thread.sleep(100)으로 풀 스레드를 점유했음
+     * - @Async 메서드가 CompletableFuture를 반환해도 Spring은 풀 스레드에서 결과를 기다리므로
+     *   스레드를 반납하려면 @Async 없이 EmailDispatcher의 Future를 그대로 반환해야 함
      */
-    @Async
     public CompletableFuture<String> sendEmailWithoutMdc(String email) {
-        log.info("[Async-NoMDC] 이메일 발송 시작 - to: {}", email);
-        log.info("[Async-NoMDC] 현재 requestId: {} (비어있을 것임)", MDC.get("requestId"));
-
-        // 이메일 발송 로직 시뮬레이션
-        try {
-            Thread.sleep(100);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-
-        log.info("[Async-NoMDC] 이메일 발송 완료 - to: {}", email);
-        return CompletableFuture.completedFuture("Email sent (without MDC): " + email);
+        log.info("[Email-NoMDC] 이메일 발송 요청 - to: {}", email);
+        return emailDispatcher.send(new EmailMessage(email, EMAIL_SUBJECT, EMAIL_BODY), MdcSnapshot.empty())
+                .thenApply(ignored -> {
+                    log.info("[Email-NoMDC] 이메일 발송 완료 - to: {}, 현재 requestId: {} (비어있을 것임)",
+                            email, MDC.get("requestId"));
+                    return "Email sent (without MDC): " + email;
+                });
     }
 
     /**
-     * MDC 전파되는 비동기 메서드
-     * - mdcTaskExecutor 사용 (MdcTaskDecorator 적용됨)
-     * - MDC 값이 유지됨
+     * MDC 전파되는 이메일 발송
+     * - EmailDispatcher가 요청 스레드의 MDC를 캡처하여 발송 완료 시점에 복원
+     * - 발송 중에는 어떤 스레드도 점유하지 않음
      */
-    @Async("mdcTaskExecutor")
     public CompletableFuture<String> sendEmailWithMdc(String email) {
-        log.info("[Async-MDC] 이메일 발송 시작 - to: {}", email);
-        log.info("[Async-MDC] 현재 requestId: {} (값이 있을 것임!)", MDC.get("requestId"));
-
-        // 이메일 발송 로직 시뮬레이션
-        try {
-            Thread.sleep(100);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-
-        log.info("[Async-MDC] 이메일 발송 완료 - to: {}", email);
-        return CompletableFuture.completedFuture("Email sent (with MDC): " + email);
+        log.info("[Email-MDC] 이메일 발송 요청 - to: {}", email);
+        return emailDispatcher.send(new EmailMessage(email, EMAIL_SUBJECT, EMAIL_BODY))
+                .thenApply(ignored -> {
+                    log.info("[Email-MDC] 이메일 발송 완료 - to: {}, 현재 requestId: {} (값이 있을 것임!)",
+                            email, MDC.get("requestId"));
+                    return "Email sent (with MDC): " + email;
+                });
     }
 
     /**
@@ -80,13 +89,22 @@ public class AsyncDemoService {
         return CompletableFuture.completedFuture("Notification processed for: " + userId);
     }
 
+    /**
+     * 알림 저장 - Write-Behind 버퍼에 넣고 바로 반환
+     * - 실제 저장은 flush 스레드가 여러 알림을 모아 배치 INSERT로 수행
+     * - requestId를 함께 저장하여 나중에 로그와 연결 가능
+     */
     private void saveNotification(String userId, String message) {
-        log.debug("[Async-MDC] DB에 알림 저장 - userId: {}", userId);
-        // DB 저장 로직...
+        log.debug("[Async-MDC] 알림 저장 요청 - userId: {}", userId);
+        notificationBuffer.add(new Notification(MDC.get("requestId"), userId, message, Instant.now()));
     }
 
+    /**
+     * 푸시 알림 발송 - 팬아웃 엔진에 넣고 바로 반환
+     * - 같은 사용자에게 짧은 시간(coalesce-window) 안에 쌓인 알림은 푸시 1건으로 합쳐 발송
+     */
     private void sendPushNotification(String userId, String message) {
-        log.debug("[Async-MDC] 푸시 알림 발송 - userId: {}", userId);
-        // 푸시 발송 로직...
+        log.debug("[Async-MDC] 푸시 알림 요청 - userId: {}", userId);
+        pushFanoutEngine.submit(userId, message);
     }
 }
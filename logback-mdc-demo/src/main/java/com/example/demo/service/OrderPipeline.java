@@ -0,0 +1,219 @@
+package com.example.demo.service;
+
+import com.example.demo.mdc.MdcSnapshot;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 주문 1건의 처리 단계를 실행하고 단계별 소요 시간을 기록하는 파이프라인
+ *
+ * [기존 방식의 문제점]
+ * - 유효성 검사 -> 가격 계산 -> 저장을 요청 스레드에서 순서대로 실행
+ *   -> 서로 의존하지 않는 단계(유효성 검사, 가격 계산)도 앞 단계를 기다림
+ *
+ * [동작 원리]
+ * 1. fork(): 독립 단계를 Executor에 제출하고 바로 반환 (호출 시점의 MDC를 캡처하여 설정)
+ * 2. run() : 현재 스레드에서 단계를 실행 (fork한 단계와 동시에 실행됨)
+ * 3. Stage.join(): fork한 단계의 결과를 기다린 뒤 의존 단계를 이어서 실행
+ *    - 아직 시작되지 않은 단계는 호출 스레드가 가져와 직접 실행
+ *      -> 같은 풀의 스레드에서 호출되거나 풀이 가득 차도 교착/무한 대기 없음
+ * 4. 각 단계의 소요 시간을 기록 -> timings()로 한 줄 요약 (requestId와 함께 로그에 출력)
+ *
+ * [중단]
+ * - run() 단계가 예외로 끝나면 끝나지 않은 fork 단계를 모두 취소한 뒤 예외를 다시 던짐
+ *   - 아직 시작 전인 단계: 실행되지 않음 (풀 스레드가 가져가도 바로 반환)
+ *   - 실행 중인 단계: 실행 스레드를 인터럽트 (결과는 버려짐)
+ *   -> 실패한 주문의 가격 계산이 풀 스레드를 계속 점유하지 않음
+ *
+ * [사용 예시]
+ * OrderPipeline pipeline = new OrderPipeline(orderId, executor);
+ * OrderPipeline.Stage<Long> price = pipeline.fork("price", () -> calculatePrice(orderId));
+ * pipeline.run("validate", () -> validateOrder(orderId));
+ * pipeline.run("save", () -> saveOrder(orderId, price.join()));
+ */
+@Slf4j
+final class OrderPipeline {
+
+    private final String orderId;
+    private final Executor executor;
+    private final long startNanos = System.nanoTime();
+
+    // 단계 이름 -> 소요 시간(ms), 끝난 순서대로
+    private final Map<String, Long> stageMillis = new LinkedHashMap<>();
+
+    // fork()한 단계 (파이프라인을 만든 스레드만 접근)
+    private final List<Stage<?>> forks = new ArrayList<>();
+
+    OrderPipeline(String orderId, Executor executor) {
+        this.orderId = orderId;
+        this.executor = executor;
+    }
+
+    /**
+     * 독립 단계를 다른 스레드에서 실행
+     * - Executor가 거절하면 join() 시점에 호출 스레드에서 실행
+     */
+    <T> Stage<T> fork(String name, Supplier<T> body) {
+        Stage<T> stage = new Stage<>(name, body, MdcSnapshot.capture());
+        forks.add(stage);
+        try {
+            executor.execute(stage);
+        } catch (RejectedExecutionException e) {
+            log.debug("[OrderPipeline] '{}' 단계 제출 거절 - 호출 스레드에서 실행 (orderId: {})", name, orderId);
+        }
+        return stage;
+    }
+
+    /**
+     * 현재 스레드에서 단계 실행
+     * - 예외로 끝나면 끝나지 않은 fork 단계를 취소
+     */
+    <T> T run(String name, Supplier<T> body) {
+        try {
+            return timed(name, body);
+        } catch (RuntimeException | Error e) {
+            cancelForks();
+            throw e;
+        }
+    }
+
+    void run(String name, Runnable body) {
+        run(name, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    private void cancelForks() {
+        for (Stage<?> stage : forks) {
+            if (stage.cancel()) {
+                log.debug("[OrderPipeline] '{}' 단계 취소 - orderId: {}", stage.name, orderId);
+            }
+        }
+    }
+
+    private <T> T timed(String name, Supplier<T> body) {
+        long start = System.nanoTime();
+        try {
+            return body.get();
+        } finally {
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            synchronized (stageMillis) {
+                stageMillis.put(name, millis);
+            }
+            log.debug("[OrderPipeline] '{}' 단계 완료 - orderId: {}, {} ms", name, orderId, millis);
+        }
+    }
+
+    long elapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * 단계별 소요 시간 요약 (예: "validate=20ms, price=31ms, save=20ms")
+     */
+    String timings() {
+        StringJoiner joiner = new StringJoiner(", ");
+        synchronized (stageMillis) {
+            stageMillis.forEach((name, millis) -> joiner.add(name + "=" + millis + "ms"));
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * fork()로 시작한 단계 - 먼저 가져간 스레드(풀 또는 join 호출자)가 한 번만 실행
+     */
+    final class Stage<T> implements Runnable {
+
+        private final String name;
+        private final Supplier<T> body;
+        private final MdcSnapshot context;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        // 실행 중인 스레드 (cancel() 시 인터럽트 대상), this로 보호
+        private Thread runner;
+
+        private Stage(String name, Supplier<T> body, MdcSnapshot context) {
+            this.name = name;
+            this.body = body;
+            this.context = context;
+        }
+
+        @Override
+        public void run() {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            synchronized (this) {
+                runner = Thread.currentThread();
+            }
+            try (MdcSnapshot.Scope ignored = context.install()) {
+                if (!result.isDone()) {
+                    result.complete(timed(name, body));
+                }
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            } finally {
+                synchronized (this) {
+                    runner = null;
+                }
+                // cancel()이 보낸 인터럽트가 같은 풀 스레드의 다음 작업으로 새지 않도록 정리
+                if (result.isCancelled()) {
+                    Thread.interrupted();
+                }
+            }
+        }
+
+        /**
+         * 끝나지 않은 단계 취소
+         * - 시작 전이면 실행되지 않게 가져가고, 실행 중이면 실행 스레드를 인터럽트
+         *
+         * @return 이번 호출로 취소되었으면 true (이미 끝난 단계는 false)
+         */
+        private boolean cancel() {
+            if (!result.cancel(false)) {
+                return false;
+            }
+            if (!claimed.compareAndSet(false, true)) {
+                synchronized (this) {
+                    if (runner != null) {
+                        runner.interrupt();
+                    }
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 결과 대기 (아직 시작 전이면 호출 스레드에서 실행)
+         * - 단계에서 발생한 예외는 그대로 다시 던짐
+         */
+        T join() {
+            run();
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.demo.service;
+
+/**
+ * 일괄 주문 처리 결과 1건
+ *
+ * @param result  성공 시 처리 결과 (실패 시 null)
+ * @param error   실패 시 예외 메시지 (성공 시 null)
+ */
+public record OrderResult(String orderId, boolean success, String result, String error, long elapsedMillis) {
+
+    static OrderResult success(String orderId, String result, long elapsedMillis) {
+        return new OrderResult(orderId, true, result, null, elapsedMillis);
+    }
+
+    static OrderResult failure(String orderId, String error, long elapsedMillis) {
+        return new OrderResult(orderId, false, null, error, elapsedMillis);
+    }
+}
@@ -1,13 +1,18 @@
 package com.example.demo.service;
 
+import com.example.demo.mdc.MdcCompletableFuture;
+import com.example.demo.mdc.MdcSnapshot;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * MDC 동작 예시를 보여주는 서비스
@@ -16,26 +21,49 @@ import java.util.concurrent.Executors;
  * 1. Controller에서 설정한 MDC 값이 Service까지 유지됨 (같은 스레드)
  * 2. 비동기 처리 시 MDC 값이 자동으로 전파되지 않음 (다른 스레드)
  * 3. 비동기 처리에서 MDC를 유지하려면 수동으로 복사해야 함
+ *    -> MdcCompletableFuture를 사용하면 모든 단계에 자동 전파
  */
 @Slf4j
 @Service
 public class OrderService {
 
-    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final Executor executor;
+    private final Executor batchExecutor;
+
+    /**
+     * Spring이 관리하는 orderTaskExecutor 사용 (AsyncConfig 참고)
+     * - 크기 제한 큐 + 종료 시 처리 중인 주문 대기 + MDC 전파 + 메트릭
+     * - app.async.virtual-threads=true 이면 가상 스레드 사용 (Java 21)
+     * - 일괄 처리는 가상 스레드 기반 orderBatchExecutor 사용
+     */
+    public OrderService(@Qualifier("orderTaskExecutor") Executor executor,
+                        @Qualifier("orderBatchExecutor") Executor batchExecutor) {
+        this.executor = executor;
+        this.batchExecutor = batchExecutor;
+    }
 
     /**
      * 주문 처리 (동기)
-     * - 같은 스레드에서 실행되므로 MDC 값 유지됨
+     * - 요청 스레드에서 결과를 기다리므로 MDC 값 유지됨
+     *
+     * [단계 구성] (OrderPipeline 참고)
+     * - 유효성 검사 -> 가격 계산 -> 저장을 호출 스레드에서 순서대로 실행하고 단계별 소요 시간 기록
+     * - 지금은 어느 단계도 블로킹하지 않으므로 fork하지 않음
+     *   (다른 스레드로 넘기면 큐 적재 + 스레드 전환 비용만 생기고 겹쳐서 얻는 시간이 없음)
+     * - 가격 계산이 외부 API 호출처럼 블로킹하게 되면 pipeline.fork("price", ...)로 바꿔
+     *   유효성 검사와 동시에 실행 (processBatchOrder의 가상 스레드에서도 호출되므로
+     *   크기가 제한된 플랫폼 스레드 풀보다 가상 스레드 Executor에 fork하는 것이 적합)
      */
     public String processOrder(String orderId) {
         log.info("[OrderService] 주문 처리 시작 - orderId: {}", orderId);
 
-        // 비즈니스 로직 수행
-        validateOrder(orderId);
-        calculatePrice(orderId);
-        saveOrder(orderId);
+        OrderPipeline pipeline = new OrderPipeline(orderId, executor);
+        pipeline.run("validate", () -> validateOrder(orderId));
+        long price = pipeline.run("price", () -> calculatePrice(orderId));
+        pipeline.run("save", () -> saveOrder(orderId, price));
 
-        log.info("[OrderService] 주문 처리 완료 - orderId: {}", orderId);
+        log.info("[OrderService] 주문 처리 완료 - orderId: {}, {} ms ({})",
+                orderId, pipeline.elapsedMillis(), pipeline.timings());
         return "Order processed: " + orderId;
     }
 
@@ -44,30 +72,85 @@ public class OrderService {
         // 유효성 검사 로직...
     }
 
-    private void calculatePrice(String orderId) {
+    private long calculatePrice(String orderId) {
         log.debug("[OrderService] 가격 계산 - orderId: {}", orderId);
-        // 가격 계산 로직...
+        // 가격 계산 로직 (가격 조회 API 호출 등)...
+        return 10_000L;
     }
 
-    private void saveOrder(String orderId) {
-        log.debug("[OrderService] 주문 저장 - orderId: {}", orderId);
+    private void saveOrder(String orderId, long price) {
+        log.debug("[OrderService] 주문 저장 - orderId: {}, price: {}", orderId, price);
         // DB 저장 로직...
     }
 
     /**
-     * 비동기 주문 처리 - MDC 전파 안됨 (문제 상황)
+     * 일괄 처리용 주문 1건 처리 - orderBatchExecutor의 가상 스레드에서 실행
      *
-     * [문제점]
+     * [핵심 포인트]
+     * - 호출 스레드의 MDC(배치 요청의 requestId 등) + orderId를 설정한 채 processOrder() 실행
+     *   -> 주문별 로그를 requestId로 묶어 보거나 orderId로 골라 볼 수 있음
+     * - 주문 처리 실패는 OrderResult.failure로 완료 (Future는 예외로 끝나지 않음)
+     * - 시작 전에 Future가 취소되면 주문을 처리하지 않음
+     * - 동시에 몇 건을 처리할지는 호출하는 쪽이 정함 (NdjsonStream의 window 참고)
+     *
+     * @throws TaskRejectedException 종료 중이라 작업을 받을 수 없는 경우
+     */
+    public CompletableFuture<OrderResult> processBatchOrder(String orderId) {
+        MdcSnapshot context = withOrderId(MdcSnapshot.capture(), orderId);
+        CompletableFuture<OrderResult> future = new CompletableFuture<>();
+        batchExecutor.execute(() -> {
+            if (future.isDone()) {
+                return;
+            }
+            try (MdcSnapshot.Scope ignored = context.install()) {
+                future.complete(processBatchItem(orderId));
+            } finally {
+                // processBatchItem()은 RuntimeException만 실패 결과로 바꾸므로
+                // Error로 끝난 경우에도 Future를 완료해 기다리는 쪽(NdjsonStream)이 멈추지 않게 함
+                if (!future.isDone()) {
+                    future.completeExceptionally(new IllegalStateException("Order " + orderId + " aborted"));
+                }
+            }
+        });
+        return future;
+    }
+
+    private MdcSnapshot withOrderId(MdcSnapshot batchContext, String orderId) {
+        Map<String, String> context = new HashMap<>(batchContext.asMap());
+        context.put("orderId", orderId);
+        return MdcSnapshot.of(context);
+    }
+
+    private OrderResult processBatchItem(String orderId) {
+        long start = System.nanoTime();
+        try {
+            String result = processOrder(orderId);
+            return OrderResult.success(orderId, result, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            log.warn("[OrderService] 일괄 처리 중 주문 실패 - orderId: {}: {}", orderId, e.toString());
+            return OrderResult.failure(orderId, e.toString(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * 비동기 주문 처리 - CompletableFuture.supplyAsync 직접 사용
+     *
+     * [문제점] (raw 스레드 풀 사용 시)
      * - 새로운 스레드에서 실행되므로 MDC 값이 비어있음
      * - 로그에 requestId, userId 등이 출력되지 않음
+     *
+     * [현재]
+     * - orderTaskExecutor에 MdcTaskDecorator가 설정되어 있어 MDC가 전파됨
+     * - 단, 후속 단계를 *Async로 이어 붙이면 ForkJoinPool에서 실행되어 MDC가 사라짐
+     *   -> 여러 단계가 필요하면 processOrderAsyncWithMdc()처럼 MdcCompletableFuture 사용
      */
     public CompletableFuture<String> processOrderAsync(String orderId) {
         log.info("[OrderService] 비동기 주문 처리 요청 - orderId: {}", orderId);
 
         return CompletableFuture.supplyAsync(() -> {
-            // 이 코드는 다른 스레드에서 실행됨 -> MDC 값 없음!
+            // 이 코드는 다른 스레드에서 실행됨 -> Executor의 TaskDecorator가 MDC 설정
             log.info("[OrderService-Async] 비동기 처리 중 - orderId: {} (MDC 값 확인해보세요!)", orderId);
-            log.info("[OrderService-Async] 현재 MDC requestId: {}", MDC.get("requestId")); // null
+            log.info("[OrderService-Async] 현재 MDC requestId: {}", MDC.get("requestId"));
             return "Async order processed: " + orderId;
         }, executor);
     }
@@ -76,39 +159,39 @@ public class OrderService {
      * 비동기 주문 처리 - MDC 전파됨 (해결 방법)
      *
      * [해결 방법]
-     * 1. 비동기 작업 시작 전에 MDC.getCopyOfContextMap()으로 현재 MDC 복사
-     * 2. 비동기 작업 내에서 MDC.setContextMap()으로 복사한 값 설정
-     * 3. 작업 완료 후 MDC.clear()로 정리
+     * 1. MdcCompletableFuture.supplyAsync()가 호출 시점의 MDC를 스냅샷으로 한 번만 캡처
+     * 2. 이후 모든 단계(thenApplyAsync, thenApply, ...)가 같은 스냅샷을 공유하여 MDC 유지
+     * 3. 각 단계가 끝나면 실행 스레드의 MDC는 자동으로 원래 상태로 복원됨
+     *
+     * [이전 방식]
+     * - MDC.getCopyOfContextMap()으로 복사 -> 람다 안에서 setContextMap() -> finally에서 clear()
+     * - 단계가 늘어날 때마다 같은 코드를 반복하고 HashMap을 다시 복사해야 했음
      */
     public CompletableFuture<String> processOrderAsyncWithMdc(String orderId) {
         log.info("[OrderService] MDC 전파 비동기 주문 처리 요청 - orderId: {}", orderId);
 
-        // 현재 스레드의 MDC 복사
-        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
-
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                // 복사한 MDC 값을 새 스레드에 설정
-                if (mdcContext != null) {
-                    MDC.setContextMap(mdcContext);
-                }
-
-                log.info("[OrderService-Async-MDC] 비동기 처리 중 - orderId: {} (MDC 값 유지됨!)", orderId);
-                log.info("[OrderService-Async-MDC] 현재 MDC requestId: {}", MDC.get("requestId"));
-
-                // 비즈니스 로직 수행
-                Thread.sleep(100); // 처리 시뮬레이션
-
-                return "Async order with MDC processed: " + orderId;
+        return MdcCompletableFuture.supplyAsync(() -> {
+                    log.info("[OrderService-Async-MDC] 비동기 처리 중 - orderId: {} (MDC 값 유지됨!)", orderId);
+                    log.info("[OrderService-Async-MDC] 현재 MDC requestId: {}", MDC.get("requestId"));
+
+                    // 비즈니스 로직 수행
+                    sleep(100); // 처리 시뮬레이션
+                    return orderId;
+                }, executor)
+                .thenApplyAsync(id -> {
+                    // 다른 스레드에서 실행되는 후속 단계에서도 MDC 유지
+                    log.info("[OrderService-Async-MDC] 후속 처리 단계 - requestId: {}", MDC.get("requestId"));
+                    return "Async order with MDC processed: " + id;
+                });
+    }
 
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException(e);
-            } finally {
-                // 중요: 스레드 풀 사용 시 반드시 MDC 정리
-                MDC.clear();
-            }
-        }, executor);
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
     }
 
     /**
@@ -0,0 +1,193 @@
+package com.example.demo.email;
+
+import com.example.demo.config.EmailProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * EmailDispatcher 묶음 발송/동시 발송 상한/MDC 복원/백프레셔 검증
+ * - 발송 완료 시점은 RecordingTransport로 테스트가 직접 정함 (지연 시간에 의존하지 않음)
+ */
+class EmailDispatcherTest {
+
+    private final RecordingTransport transport = new RecordingTransport();
+    private EmailDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+        transport.completeAll();
+        if (dispatcher != null) {
+            dispatcher.close();
+        }
+    }
+
+    @Test
+    @DisplayName("제목/본문이 같은 이메일은 수신자를 모아 한 번에 발송")
+    void groupsRecipientsPerSend() throws InterruptedException {
+        dispatcher = dispatcher(properties(4, 16, Duration.ofSeconds(5), 100));
+
+        // linger 동안 4건이 모이면 바로 묶음 처리 (maxRecipientsPerSend = 4)
+        List<CompletableFuture<Void>> futures = List.of(
+                dispatcher.send(new EmailMessage("a1@example.com", "welcome", "hello")),
+                dispatcher.send(new EmailMessage("b1@example.com", "receipt", "paid")),
+                dispatcher.send(new EmailMessage("a2@example.com", "welcome", "hello")),
+                dispatcher.send(new EmailMessage("a3@example.com", "welcome", "hello")));
+
+        RecordingTransport.Call welcome = transport.next();
+        RecordingTransport.Call receipt = transport.next();
+        assertThat(welcome.batch()).isEqualTo(new EmailBatch("welcome", "hello",
+                List.of("a1@example.com", "a2@example.com", "a3@example.com")));
+        assertThat(receipt.batch()).isEqualTo(new EmailBatch("receipt", "paid", List.of("b1@example.com")));
+
+        welcome.delivery().complete(null);
+        receipt.delivery().complete(null);
+        assertThat(CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)))
+                .succeedsWithin(Duration.ofSeconds(5));
+        assertThat(dispatcher.getSends()).isEqualTo(2);
+        assertThat(dispatcher.getSentEmails()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("진행 중인 발송이 maxConcurrentSends개면 하나가 끝날 때까지 다음 발송을 시작하지 않음")
+    void capsConcurrentSends() throws InterruptedException {
+        dispatcher = dispatcher(properties(1, 2, Duration.ZERO, 100));
+
+        dispatcher.send(new EmailMessage("1@example.com", "s1", "b"));
+        dispatcher.send(new EmailMessage("2@example.com", "s2", "b"));
+        CompletableFuture<Void> third = dispatcher.send(new EmailMessage("3@example.com", "s3", "b"));
+
+        RecordingTransport.Call first = transport.next();
+        transport.next();
+        assertThat(transport.poll(Duration.ofMillis(200))).isNull();
+        assertThat(dispatcher.getInFlightSends()).isEqualTo(2);
+
+        first.delivery().complete(null);
+        RecordingTransport.Call next = transport.next();
+        assertThat(next.batch().recipients()).containsExactly("3@example.com");
+        next.delivery().complete(null);
+        assertThat(third).succeedsWithin(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Future는 요청 스레드의 MDC를 복원한 채 완료되어 후속 작업 로그에도 requestId가 남음")
+    void completesWithCallerMdc() throws InterruptedException {
+        dispatcher = dispatcher(properties(1, 16, Duration.ZERO, 100));
+
+        MDC.put("requestId", "req-1");
+        CompletableFuture<Void> future = dispatcher.send(new EmailMessage("1@example.com", "s", "b"));
+        MDC.clear();
+        AtomicReference<String> seen = new AtomicReference<>();
+        CompletableFuture<Void> followUp = future.thenRun(() -> seen.set(MDC.get("requestId")));
+
+        // MDC가 없는 다른 스레드에서 발송 완료
+        RecordingTransport.Call call = transport.next();
+        Thread completer = new Thread(() -> call.delivery().complete(null), "smtp-callback");
+        completer.start();
+        completer.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertThat(followUp).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(seen).hasValue("req-1");
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 send()가 TaskRejectedException")
+    void rejectsWhenQueueIsFull() throws InterruptedException {
+        dispatcher = dispatcher(properties(1, 1, Duration.ZERO, 1));
+
+        dispatcher.send(new EmailMessage("1@example.com", "s1", "b"));
+        transport.next(); // 발송 1건 진행 중 -> 남은 발송 허용 수 0
+        dispatcher.send(new EmailMessage("2@example.com", "s2", "b"));
+        // 발송 스레드가 2번을 꺼내 발송 허용을 기다리는 상태가 될 때까지 대기
+        assertThat(awaitCondition(() -> dispatcher.getQueueDepth() == 0)).isTrue();
+        dispatcher.send(new EmailMessage("3@example.com", "s3", "b"));
+
+        assertThatThrownBy(() -> dispatcher.send(new EmailMessage("4@example.com", "s4", "b")))
+                .isInstanceOf(TaskRejectedException.class);
+        assertThat(dispatcher.getQueueDepth()).isEqualTo(1);
+    }
+
+    private EmailDispatcher dispatcher(EmailProperties properties) {
+        return new EmailDispatcher(transport, properties);
+    }
+
+    private static EmailProperties properties(int maxRecipientsPerSend, int maxConcurrentSends,
+                                              Duration batchLinger, int queueCapacity) {
+        EmailProperties properties = new EmailProperties();
+        properties.setMaxRecipientsPerSend(maxRecipientsPerSend);
+        properties.setMaxConcurrentSends(maxConcurrentSends);
+        properties.setBatchLinger(batchLinger);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setSendTimeout(Duration.ofSeconds(5));
+        return properties;
+    }
+
+    private static boolean awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(1);
+        }
+        return true;
+    }
+
+    /**
+     * send() 호출을 기록만 하고, 완료는 테스트가 직접 하는 EmailTransport
+     */
+    private static final class RecordingTransport implements EmailTransport {
+
+        private final BlockingQueue<Call> calls = new LinkedBlockingQueue<>();
+        private final List<Call> all = new ArrayList<>();
+        private boolean completeImmediately;
+
+        @Override
+        public synchronized CompletableFuture<Void> send(EmailBatch batch) {
+            Call call = new Call(batch, new CompletableFuture<>());
+            all.add(call);
+            calls.add(call);
+            if (completeImmediately) {
+                call.delivery().complete(null);
+            }
+            return call.delivery();
+        }
+
+        Call next() throws InterruptedException {
+            Call call = poll(Duration.ofSeconds(5));
+            assertThat(call).as("transport.send() 호출").isNotNull();
+            return call;
+        }
+
+        Call poll(Duration timeout) throws InterruptedException {
+            return calls.poll(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * 지금까지의 발송을 모두 완료하고, 이후 발송은 바로 완료 (종료 시 close()가 기다리지 않도록)
+         */
+        synchronized void completeAll() {
+            completeImmediately = true;
+            all.forEach(call -> call.delivery().complete(null));
+        }
+
+        record Call(EmailBatch batch, CompletableFuture<Void> delivery) {
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.demo.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PathPatternTrie 매칭 규칙 검증 (MdcLoggingFilter 제외 패턴)
+ */
+class PathPatternTrieTest {
+
+    private final PathPatternTrie trie = PathPatternTrie.compile(List.of(
+            "/actuator/health",
+            "/static/*",
+            "/internal/**"));
+
+    @Test
+    @DisplayName("정확히 일치하는 경로만 매칭")
+    void exactMatch() {
+        assertThat(trie.matches("/actuator/health", 0)).isTrue();
+        assertThat(trie.matches("/actuator", 0)).isFalse();
+        assertThat(trie.matches("/actuator/healthz", 0)).isFalse();
+        assertThat(trie.matches("/actuator/health/liveness", 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("'*'는 비어 있지 않은 세그먼트 하나와 매칭")
+    void singleSegmentWildcard() {
+        assertThat(trie.matches("/static/app.js", 0)).isTrue();
+        assertThat(trie.matches("/static/a/b.js", 0)).isFalse();
+        assertThat(trie.matches("/static", 0)).isFalse();
+        assertThat(trie.matches("/static/", 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("마지막 '**'는 이하 전체와 자기 자신을 매칭")
+    void trailingDoubleWildcard() {
+        assertThat(trie.matches("/internal", 0)).isTrue();
+        assertThat(trie.matches("/internal/jobs", 0)).isTrue();
+        assertThat(trie.matches("/internal/jobs/1/run", 0)).isTrue();
+        assertThat(trie.matches("/internals", 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("연속된 '/'는 하나로 취급")
+    void doubleSlashes() {
+        assertThat(trie.matches("//actuator//health", 0)).isTrue();
+        assertThat(trie.matches("/static//app.js", 0)).isTrue();
+        assertThat(trie.matches("/internal//jobs", 0)).isTrue();
+    }
+
+    @Test
+    @DisplayName("끝의 '/'는 무시")
+    void trailingSlash() {
+        assertThat(trie.matches("/actuator/health/", 0)).isTrue();
+        assertThat(trie.matches("/static/app.js/", 0)).isTrue();
+        assertThat(trie.matches("/internal/", 0)).isTrue();
+    }
+
+    @Test
+    @DisplayName("from 이전(컨텍스트 경로)은 매칭에서 제외")
+    void nonZeroFrom() {
+        String uri = "/shop/actuator/health";
+        int from = "/shop".length();
+
+        assertThat(trie.matches(uri, from)).isTrue();
+        assertThat(trie.matches(uri, 0)).isFalse();
+        assertThat(trie.matches("/actuator/health", "/actuator".length())).isFalse();
+        assertThat(trie.matches("/shop", from)).isFalse();
+    }
+
+    @Test
+    @DisplayName("패턴이 없으면 아무것도 매칭하지 않음")
+    void emptyTrie() {
+        PathPatternTrie empty = PathPatternTrie.compile(List.of());
+
+        assertThat(empty.isEmpty()).isTrue();
+        assertThat(empty.matches("/actuator/health", 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("'**'가 마지막 세그먼트가 아니면 컴파일 실패")
+    void doubleWildcardMustBeLast() {
+        assertThatThrownBy(() -> PathPatternTrie.compile(List.of("/api/**/health")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.demo.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.spi.ThrowableProxy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BinaryEncoder -> BinaryLogDecoder 왕복 검증
+ */
+class BinaryLogDecoderTest {
+
+    private final BinaryEncoder encoder = new BinaryEncoder();
+    private final ByteArrayOutputStream file = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void setUp() {
+        encoder.start();
+    }
+
+    @Test
+    @DisplayName("인코딩한 이벤트의 필드/인자/MDC/예외가 그대로 복원됨")
+    void roundTrip() throws IOException {
+        Instant instant = Instant.parse("2024-01-01T09:00:00.123456789Z");
+        IllegalStateException error = new IllegalStateException("boom", new IllegalArgumentException("cause"));
+        LoggingEvent original = event("order {} total {} paid {} note {}", 42L, 1.5d, true, null);
+        original.setInstant(instant);
+        original.setThrowableProxy(new ThrowableProxy(error));
+
+        write(encoder.headerBytes());
+        write(encoder.encode(original));
+        List<ILoggingEvent> decoded = decodeAll(file.toByteArray());
+
+        assertThat(decoded).hasSize(1);
+        ILoggingEvent event = decoded.get(0);
+        assertThat(event.getInstant()).isEqualTo(instant);
+        assertThat(event.getLevel()).isEqualTo(Level.INFO);
+        assertThat(event.getLoggerName()).isEqualTo("com.example.demo.service.OrderService");
+        assertThat(event.getThreadName()).isEqualTo("http-nio-8080-exec-1");
+        assertThat(event.getMessage()).isEqualTo("order {} total {} paid {} note {}");
+        assertThat(event.getArgumentArray()).containsExactly(42L, 1.5d, true, null);
+        assertThat(event.getFormattedMessage()).isEqualTo("order 42 total 1.5 paid true note null");
+        assertThat(event.getMDCPropertyMap()).isEqualTo(Map.of("requestId", "req-1", "userId", "user-123"));
+
+        IThrowableProxy throwable = event.getThrowableProxy();
+        assertThat(throwable.getClassName()).isEqualTo(IllegalStateException.class.getName());
+        assertThat(throwable.getMessage()).isEqualTo("boom");
+        assertThat(throwable.getStackTraceElementProxyArray()).hasSameSizeAs(error.getStackTrace());
+        assertThat(throwable.getCause().getMessage()).isEqualTo("cause");
+    }
+
+    @Test
+    @DisplayName("헤더가 다시 나오면 사전을 초기화하고 이어서 디코딩 (롤링 후 이어 붙인 파일)")
+    void repeatedHeaders() throws IOException {
+        write(encoder.headerBytes());
+        write(encoder.encode(event("first {}", 1L)));
+        write(encoder.encode(event("second {}", 2L)));
+        // 새 파일 시작 -> 같은 문자열도 사전 정의부터 다시 기록됨
+        write(encoder.headerBytes());
+        write(encoder.headerBytes());
+        write(encoder.encode(event("second {}", 3L)));
+        write(encoder.encode(event("third {}", 4L)));
+
+        List<ILoggingEvent> decoded = decodeAll(file.toByteArray());
+
+        assertThat(decoded).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("first 1", "second 2", "second 3", "third 4");
+        assertThat(decoded).allSatisfy(event -> {
+            assertThat(event.getLoggerName()).isEqualTo("com.example.demo.service.OrderService");
+            assertThat(event.getMDCPropertyMap()).containsEntry("requestId", "req-1");
+        });
+    }
+
+    @Test
+    @DisplayName("마지막 레코드가 잘려 있으면 그 앞까지만 디코딩")
+    void truncatedInput() throws IOException {
+        write(encoder.headerBytes());
+        write(encoder.encode(event("first {}", 1L)));
+        int firstEnd = file.size();
+        write(encoder.encode(event("second {}", 2L)));
+        byte[] complete = file.toByteArray();
+
+        // 본문 중간에서 잘림
+        assertThat(decodeAll(Arrays.copyOf(complete, complete.length - 1)))
+                .extracting(ILoggingEvent::getFormattedMessage).containsExactly("first 1");
+        // 길이 prefix 중간에서 잘림
+        assertThat(decodeAll(Arrays.copyOf(complete, firstEnd + 2)))
+                .extracting(ILoggingEvent::getFormattedMessage).containsExactly("first 1");
+        // 헤더만 있음
+        assertThat(decodeAll(encoder.headerBytes())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사전 크기보다 값이 많아 id가 재사용되어도 각 레코드는 자기 값으로 복원됨")
+    void dictionaryEviction() throws IOException {
+        BinaryEncoder small = new BinaryEncoder();
+        small.setDictionarySize(64);
+        small.start();
+
+        List<Map<String, String>> expected = new ArrayList<>();
+        write(small.headerBytes());
+        for (int i = 0; i < 500; i++) {
+            // 이미 등록된 userId를 먼저 참조한 뒤 새 requestId를 등록
+            // -> 사전이 한 바퀴 돌면 userId의 id가 다음 재사용 대상이 됨
+            Map<String, String> mdc = new LinkedHashMap<>();
+            mdc.put("userId", "user-123");
+            mdc.put("requestId", "req-" + i);
+            expected.add(mdc);
+            write(small.encode(event(mdc, "event {}", (long) i)));
+        }
+
+        assertThat(decodeAll(file.toByteArray()))
+                .extracting(ILoggingEvent::getMDCPropertyMap)
+                .containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("MDC 항목이 사전 크기보다 많으면 들어가는 항목만 기록")
+    void mdcLargerThanDictionary() throws IOException {
+        BinaryEncoder small = new BinaryEncoder();
+        small.setDictionarySize(64);
+        small.start();
+        Map<String, String> mdc = new HashMap<>();
+        for (int i = 0; i < 70; i++) {
+            mdc.put("key-" + i, "value-" + i);
+        }
+
+        write(small.headerBytes());
+        write(small.encode(event(Map.copyOf(mdc), "wide")));
+        write(small.encode(event("next")));
+        List<ILoggingEvent> decoded = decodeAll(file.toByteArray());
+
+        assertThat(decoded.get(0).getMDCPropertyMap()).hasSize(64);
+        assertThat(mdc).containsAllEntriesOf(decoded.get(0).getMDCPropertyMap());
+        assertThat(decoded.get(1).getMDCPropertyMap()).isEqualTo(Map.of("requestId", "req-1", "userId", "user-123"));
+    }
+
+    @Test
+    @DisplayName("테일 샘플링 버퍼 id는 기록되지 않음")
+    void skipsTailSamplingBufferId() throws IOException {
+        LoggingEvent original = event(Map.of("requestId", "req-1", TailSamplingTurboFilter.BUFFER_ID_KEY, "k3"),
+                "buffered");
+
+        write(encoder.headerBytes());
+        write(encoder.encode(original));
+
+        assertThat(decodeAll(file.toByteArray()).get(0).getMDCPropertyMap())
+                .isEqualTo(Map.of("requestId", "req-1"));
+    }
+
+    private static LoggingEvent event(String message, Object... args) {
+        return event(Map.of("requestId", "req-1", "userId", "user-123"), message, args);
+    }
+
+    private static LoggingEvent event(Map<String, String> mdc, String message, Object... args) {
+        LoggingEvent event = new LoggingEvent();
+        event.setInstant(Instant.parse("2024-01-01T09:00:00Z"));
+        event.setLevel(Level.INFO);
+        event.setLoggerName("com.example.demo.service.OrderService");
+        event.setThreadName("http-nio-8080-exec-1");
+        event.setMessage(message);
+        event.setArgumentArray(args.length == 0 ? null : args);
+        event.setMDCPropertyMap(mdc);
+        return event;
+    }
+
+    private void write(byte[] bytes) {
+        file.writeBytes(bytes);
+    }
+
+    private static List<ILoggingEvent> decodeAll(byte[] bytes) throws IOException {
+        BinaryLogDecoder decoder = new BinaryLogDecoder(new ByteArrayInputStream(bytes));
+        List<ILoggingEvent> events = new ArrayList<>();
+        ILoggingEvent event;
+        while ((event = decoder.next()) != null) {
+            events.add(event);
+        }
+        return events;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.demo.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.util.Duration;
+import ch.qos.logback.core.util.FileSize;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MappedFileAppender 세그먼트 전환 검증 (상태가 있는 BinaryEncoder 사용)
+ */
+class MappedFileAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final MappedFileAppender appender = new MappedFileAppender();
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("mapped-appender");
+        BinaryEncoder encoder = new BinaryEncoder();
+        encoder.setContext(context);
+        encoder.start();
+
+        appender.setContext(context);
+        appender.setName("MMAP_TEST");
+        appender.setDirectory(directory.toString());
+        appender.setSegmentSize(new FileSize(1024));
+        appender.setForceInterval(Duration.buildByMilliseconds(0));
+        appender.setEncoder(encoder);
+        appender.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        appender.stop();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("세그먼트가 바뀌어도 각 세그먼트는 독립적으로 디코딩되고 이벤트가 빠지지 않음")
+    void everySegmentDecodesOnItsOwn() throws IOException {
+        List<String> expected = IntStream.range(0, 200).mapToObj(i -> "event " + i).toList();
+        for (int i = 0; i < expected.size(); i++) {
+            appender.doAppend(event("event {}", (long) i));
+        }
+        appender.stop();
+
+        List<Path> segments = segments();
+        assertThat(segments).hasSizeGreaterThan(1);
+        List<String> decoded = new ArrayList<>();
+        for (Path segment : segments) {
+            // 세그먼트마다 사전이 초기화되므로 파일 하나만으로 로거/템플릿/MDC가 복원되어야 함
+            for (ILoggingEvent event : decode(segment)) {
+                assertThat(event.getLoggerName()).isEqualTo("com.example.demo.service.OrderService");
+                assertThat(event.getMDCPropertyMap()).isEqualTo(Map.of("requestId", "req-1"));
+                decoded.add(event.getFormattedMessage());
+            }
+        }
+        assertThat(decoded).containsExactlyElementsOf(expected);
+        assertThat(appender.getDroppedEvents()).isZero();
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted(Comparator.comparingInt(MappedFileAppenderTest::segmentIndex)).toList();
+        }
+    }
+
+    private static int segmentIndex(Path path) {
+        // application.{yyyy-MM-dd}.{index}.log
+        String[] parts = path.getFileName().toString().split("\\.");
+        return Integer.parseInt(parts[parts.length - 2]);
+    }
+
+    private static List<ILoggingEvent> decode(Path segment) throws IOException {
+        try (InputStream in = Files.newInputStream(segment)) {
+            BinaryLogDecoder decoder = new BinaryLogDecoder(in);
+            List<ILoggingEvent> events = new ArrayList<>();
+            ILoggingEvent event;
+            while ((event = decoder.next()) != null) {
+                events.add(event);
+            }
+            return events;
+        }
+    }
+
+    private static LoggingEvent event(String message, Object... args) {
+        LoggingEvent event = new LoggingEvent();
+        event.setInstant(Instant.now());
+        event.setLevel(Level.INFO);
+        event.setLoggerName("com.example.demo.service.OrderService");
+        event.setThreadName("async-binary-file");
+        event.setMessage(message);
+        event.setArgumentArray(args);
+        event.setMDCPropertyMap(Map.of("requestId", "req-1"));
+        return event;
+    }
+}
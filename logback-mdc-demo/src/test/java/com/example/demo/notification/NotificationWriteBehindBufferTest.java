@@ -0,0 +1,119 @@
+package com.example.demo.notification;
+
+import com.example.demo.config.NotificationProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * NotificationWriteBehindBuffer flush 조건(개수/시간)과 종료 시 남은 알림 저장 검증
+ * - flushInterval을 길게 두면 개수 조건만으로, flushSize를 크게 두면 시간 조건만으로 저장됨
+ */
+class NotificationWriteBehindBufferTest {
+
+    private final RecordingStore store = new RecordingStore();
+    private NotificationWriteBehindBuffer buffer;
+
+    @AfterEach
+    void tearDown() {
+        if (buffer != null) {
+            buffer.close();
+        }
+    }
+
+    @Test
+    @DisplayName("flushSize개가 모이면 flushInterval을 기다리지 않고 한 번에 저장")
+    void flushesOnSize() throws InterruptedException {
+        buffer = buffer(3, Duration.ofSeconds(30));
+
+        List<Notification> added = add(3);
+
+        assertThat(awaitCondition(() -> store.getBatchCount() == 1)).isTrue();
+        assertThat(store.findAll()).containsExactlyElementsOf(added);
+        assertThat(buffer.getFlushes()).isEqualTo(1);
+        assertThat(buffer.getFlushedNotifications()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("flushSize보다 적어도 flushInterval이 지나면 저장")
+    void flushesOnInterval() throws InterruptedException {
+        buffer = buffer(100, Duration.ofMillis(50));
+
+        List<Notification> added = add(2);
+
+        assertThat(awaitCondition(() -> store.getBatchCount() == 1)).isTrue();
+        assertThat(store.findAll()).containsExactlyElementsOf(added);
+    }
+
+    @Test
+    @DisplayName("close()는 남은 알림을 flushInterval을 기다리지 않고 저장한 뒤 저장소를 닫음")
+    void drainsOnClose() {
+        buffer = buffer(100, Duration.ofSeconds(30));
+        List<Notification> added = add(5);
+
+        long start = System.nanoTime();
+        buffer.close();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+        assertThat(store.findAll()).containsExactlyElementsOf(added);
+        assertThat(store.closed).hasValue(1);
+        assertThatThrownBy(() -> buffer.add(notification(99)))
+                .isInstanceOf(TaskRejectedException.class);
+    }
+
+    private NotificationWriteBehindBuffer buffer(int flushSize, Duration flushInterval) {
+        NotificationProperties properties = new NotificationProperties();
+        properties.setFlushSize(flushSize);
+        properties.setFlushInterval(flushInterval);
+        properties.setQueueCapacity(1_000);
+        return new NotificationWriteBehindBuffer(store, properties);
+    }
+
+    private List<Notification> add(int count) {
+        List<Notification> notifications = IntStream.range(0, count)
+                .mapToObj(NotificationWriteBehindBufferTest::notification)
+                .toList();
+        notifications.forEach(buffer::add);
+        return notifications;
+    }
+
+    private static Notification notification(int i) {
+        return new Notification("req-" + i, "user-" + i, "message " + i, Instant.EPOCH);
+    }
+
+    private static boolean awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(1);
+        }
+        return true;
+    }
+
+    /**
+     * close() 호출 횟수를 기록하는 메모리 저장소
+     */
+    private static final class RecordingStore extends InMemoryNotificationStore {
+
+        private final AtomicInteger closed = new AtomicInteger();
+
+        @Override
+        public void close() {
+            closed.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.demo.notification;
+
+import com.example.demo.config.PushProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PushFanoutEngine 사용자별 순서/합치기/분할 발송 검증
+ * - 소요 시간 대신 CountDownLatch로 확인 (첫 푸시를 붙잡아 둔 동안 쌓인 메시지가 다음 창에서 한 번에 처리됨)
+ */
+class PushFanoutEngineTest {
+
+    private final RecordingTransport transport = new RecordingTransport();
+    private PushFanoutEngine engine;
+
+    @AfterEach
+    void tearDown() {
+        transport.release.countDown();
+        if (engine != null) {
+            engine.close();
+        }
+    }
+
+    @Test
+    @DisplayName("창 안에 쌓인 같은 사용자의 메시지는 도착 순서대로 푸시 1건으로 합쳐짐")
+    void coalescesWithinWindow() {
+        engine = engine(1, 20);
+        assertThat(engine.getCoalescingRatio()).isEqualTo(1.0);
+
+        holdFirstPush();
+        engine.submit("user-a", "a1");
+        engine.submit("user-a", "a2");
+        engine.submit("user-b", "b1");
+        engine.submit("user-a", "a3");
+        engine.submit("user-b", "b2");
+        transport.release.countDown();
+        engine.close();
+
+        assertThat(transport.pushes()).containsExactly(
+                new Push("gate", List.of("open"), "push-shard-0"),
+                new Push("user-a", List.of("a1", "a2", "a3"), "push-shard-0"),
+                new Push("user-b", List.of("b1", "b2"), "push-shard-0"));
+        assertThat(engine.getPushes()).isEqualTo(3);
+        assertThat(engine.getCoalescingRatio()).isEqualTo(6 / 3.0);
+    }
+
+    @Test
+    @DisplayName("합칠 메시지가 maxMessagesPerPush개를 넘으면 순서대로 나누어 발송")
+    void splitsByMaxMessagesPerPush() {
+        engine = engine(1, 2);
+
+        holdFirstPush();
+        IntStream.range(0, 5).forEach(i -> engine.submit("user-a", "a" + i));
+        transport.release.countDown();
+        engine.close();
+
+        assertThat(transport.pushes()).extracting(Push::messages).containsExactly(
+                List.of("open"),
+                List.of("a0", "a1"),
+                List.of("a2", "a3"),
+                List.of("a4"));
+        assertThat(engine.getCoalescingRatio()).isEqualTo(6 / 4.0);
+    }
+
+    @Test
+    @DisplayName("샤드가 여러 개여도 사용자별 메시지는 항상 같은 스레드에서 도착 순서대로 발송")
+    void preservesPerUserOrder() {
+        engine = engine(4, 3);
+        List<String> users = IntStream.range(0, 8).mapToObj(i -> "user-" + i).toList();
+
+        for (int i = 0; i < 100; i++) {
+            for (String user : users) {
+                engine.submit(user, user + ":" + i);
+            }
+        }
+        engine.close();
+
+        Map<String, List<Push>> byUser = transport.pushes().stream()
+                .collect(Collectors.groupingBy(Push::userId));
+        assertThat(byUser).containsOnlyKeys(users);
+        byUser.forEach((user, pushes) -> {
+            assertThat(pushes).extracting(Push::thread).containsOnly("push-shard-" + engine.shardOf(user));
+            assertThat(pushes.stream().flatMap(push -> push.messages().stream()))
+                    .containsExactlyElementsOf(IntStream.range(0, 100).mapToObj(i -> user + ":" + i).toList());
+        });
+        assertThat(engine.getSubmittedMessages()).isEqualTo(800);
+    }
+
+    private PushFanoutEngine engine(int shards, int maxMessagesPerPush) {
+        PushProperties properties = new PushProperties();
+        properties.setShards(shards);
+        properties.setMaxMessagesPerPush(maxMessagesPerPush);
+        // 창 없이도 붙잡아 둔 동안 쌓인 메시지는 다음 drain에서 한 번에 모임
+        properties.setCoalesceWindow(Duration.ZERO);
+        return new PushFanoutEngine(transport, properties);
+    }
+
+    /**
+     * 첫 푸시를 release 전까지 붙잡아 둠 (그 사이 submit한 메시지는 큐에 쌓임)
+     */
+    private void holdFirstPush() {
+        transport.holdFirstPush = true;
+        engine.submit("gate", "open");
+        assertThat(await(transport.firstPushStarted)).isTrue();
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record Push(String userId, List<String> messages, String thread) {
+    }
+
+    /**
+     * 발송 내용과 발송 스레드를 기록하는 PushTransport
+     */
+    private static final class RecordingTransport implements PushTransport {
+
+        private final List<Push> pushes = new ArrayList<>();
+        private final CountDownLatch firstPushStarted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean holdFirstPush;
+
+        @Override
+        public void push(String userId, List<String> messages) {
+            synchronized (pushes) {
+                pushes.add(new Push(userId, messages, Thread.currentThread().getName()));
+            }
+            if (holdFirstPush && firstPushStarted.getCount() > 0) {
+                firstPushStarted.countDown();
+                await(release);
+            }
+        }
+
+        List<Push> pushes() {
+            synchronized (pushes) {
+                return new ArrayList<>(pushes);
+            }
+        }
+    }
+}
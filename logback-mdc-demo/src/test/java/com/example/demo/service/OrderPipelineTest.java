@@ -0,0 +1,124 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * OrderPipeline 단계 실행 순서/동시 실행 검증
+ * - 소요 시간 대신 CountDownLatch로 확인 (두 단계가 동시에 실행되지 않으면 서로를 기다리다 시간 초과)
+ */
+class OrderPipelineTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("fork한 단계와 run한 단계는 동시에 실행됨")
+    void forkedStageOverlapsWithRunStage() {
+        CountDownLatch priceStarted = new CountDownLatch(1);
+        CountDownLatch validateStarted = new CountDownLatch(1);
+        OrderPipeline pipeline = new OrderPipeline("order-1", executor);
+
+        OrderPipeline.Stage<Boolean> price = pipeline.fork("price", () -> {
+            priceStarted.countDown();
+            return await(validateStarted);
+        });
+        boolean validateSawPrice = pipeline.run("validate", () -> {
+            validateStarted.countDown();
+            return await(priceStarted);
+        });
+
+        assertThat(validateSawPrice).isTrue();
+        assertThat(price.join()).isTrue();
+    }
+
+    @Test
+    @DisplayName("의존 단계는 fork한 단계의 결과로 실행되고 단계별 소요 시간이 기록됨")
+    void dependentStageUsesForkedResult() {
+        OrderPipeline pipeline = new OrderPipeline("order-1", executor);
+
+        OrderPipeline.Stage<Long> price = pipeline.fork("price", () -> 10_000L);
+        pipeline.run("validate", () -> { });
+        long saved = pipeline.run("save", () -> price.join() * 2);
+
+        assertThat(saved).isEqualTo(20_000L);
+        assertThat(pipeline.timings()).contains("price=", "validate=", "save=");
+    }
+
+    @Test
+    @DisplayName("Executor가 거절하면 join() 호출 스레드에서 실행")
+    void rejectedStageRunsOnJoin() {
+        executor.shutdown();
+        OrderPipeline pipeline = new OrderPipeline("order-1", executor);
+
+        OrderPipeline.Stage<Thread> stage = pipeline.fork("price", Thread::currentThread);
+
+        assertThat(stage.join()).isSameAs(Thread.currentThread());
+    }
+
+    @Test
+    @DisplayName("run 단계가 실패하면 시작 전인 fork 단계는 실행되지 않음")
+    void failedRunSkipsQueuedStage() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> await(release)); // 풀 스레드 점유 -> price는 큐에서 대기
+        AtomicBoolean priceRan = new AtomicBoolean();
+        OrderPipeline pipeline = new OrderPipeline("order-1", executor);
+
+        pipeline.fork("price", () -> priceRan.getAndSet(true));
+        assertThatThrownBy(() -> pipeline.run("validate", () -> {
+            throw new IllegalArgumentException("invalid order");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        release.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(priceRan).isFalse();
+    }
+
+    @Test
+    @DisplayName("run 단계가 실패하면 실행 중인 fork 단계는 인터럽트됨")
+    void failedRunInterruptsRunningStage() throws InterruptedException {
+        CountDownLatch priceStarted = new CountDownLatch(1);
+        CountDownLatch priceInterrupted = new CountDownLatch(1);
+        OrderPipeline pipeline = new OrderPipeline("order-1", executor);
+
+        pipeline.fork("price", () -> {
+            priceStarted.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                priceInterrupted.countDown();
+            }
+            return 10_000L;
+        });
+        assertThatThrownBy(() -> pipeline.run("validate", () -> {
+            await(priceStarted);
+            throw new IllegalArgumentException("invalid order");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(priceInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}